@@ -0,0 +1,67 @@
+package com.scrabble.dictionary;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Membership lookups against a lexicon the size of a full Scrabble word list. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LexiconBenchmark {
+  private static final int WORD_COUNT = 270_000;
+
+  @Param({"true", "false"})
+  private boolean present;
+
+  private Lexicon lexicon;
+  private String[] queries;
+  private int next;
+
+  @Setup
+  public void setUp() {
+    SplittableRandom random = new SplittableRandom(42);
+    List<String> words = new ArrayList<>(WORD_COUNT);
+    for (int i = 0; i < WORD_COUNT; i++) {
+      words.add(randomWord(random));
+    }
+    lexicon = Lexicon.of(words);
+
+    queries = new String[1024];
+    for (int i = 0; i < queries.length; i++) {
+      // Lower case so lookups also pay for case folding
+      queries[i] =
+          (present ? words.get(random.nextInt(words.size())) : randomWord(random) + "Q")
+              .toLowerCase();
+    }
+  }
+
+  @Benchmark
+  public boolean contains() {
+    String query = queries[next++ & (queries.length - 1)];
+    return lexicon.contains(query);
+  }
+
+  private static String randomWord(SplittableRandom random) {
+    char[] letters = new char[random.nextInt(2, 16)];
+    for (int i = 0; i < letters.length; i++) {
+      letters[i] = (char) ('A' + random.nextInt(26));
+    }
+    return new String(letters);
+  }
+}
@@ -0,0 +1,61 @@
+package com.scrabble.score;
+
+import com.scrabble.dictionary.Lexicon;
+import com.scrabble.score.dto.RackWordDTO;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Best-word searches over a 270k-word lexicon. Words are random, weighted by tile frequency, which
+ * makes short prefixes denser than in a real word list and so overstates the search a little.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RackSolverBenchmark {
+  private static final int WORD_COUNT = 270_000;
+  private static final String TILE_BAG = "EEEEEEAAAAIIIIOOONNNRRRTTTLLSSUUDDGBCMPFHVWYKJXQZ";
+
+  /** Seven tiles, a full ten-tile rack, and racks with one and two blanks. */
+  @Param({"RETAINS", "AERTSINLOQ", "QUIZ?ES", "AERTSI??"})
+  private String rack;
+
+  private Lexicon lexicon;
+  private ScoringTable scoringTable;
+
+  @Setup
+  public void setUp() {
+    SplittableRandom random = new SplittableRandom(42);
+    List<String> words = new ArrayList<>(WORD_COUNT);
+    for (int i = 0; i < WORD_COUNT; i++) {
+      char[] letters = new char[random.nextInt(2, 16)];
+      for (int j = 0; j < letters.length; j++) {
+        letters[j] = TILE_BAG.charAt(random.nextInt(TILE_BAG.length()));
+      }
+      words.add(new String(letters));
+    }
+    lexicon = Lexicon.of(words);
+    scoringTable = new ScoringRulesServiceImpl(new ScoreProperties()).getScoringTable();
+  }
+
+  @Benchmark
+  public List<RackWordDTO> solve() {
+    return RackSolver.solve(lexicon, scoringTable, rack, 10);
+  }
+}
@@ -0,0 +1,69 @@
+package com.scrabble.score;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+import com.scrabble.logging.LoggingProperties;
+import com.scrabble.logging.RequestLoggingFilter;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+/**
+ * The compute endpoint through the MVC stack: request logging filter, JSON binding, bean
+ * validation, scoring and response serialization. No socket or database is involved.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ScoreHttpBenchmark {
+
+  @Param({"CAT", "QuIzZiFiEd", "H3LL0-W0RLD!"})
+  private String letters;
+
+  private MockMvc mockMvc;
+  private String body;
+
+  @Setup
+  public void setUp() {
+    // Computing a score without validation never touches the repository, leaderboard or dictionary
+    ScoreService scoreService =
+        new ScoreServiceImpl(
+            null,
+            new ScoringRulesServiceImpl(new ScoreProperties()),
+            null,
+            null,
+            null,
+            null,
+            null,
+            null);
+    mockMvc =
+        MockMvcBuilders.standaloneSetup(new ScoreController(scoreService))
+            .addFilters(new RequestLoggingFilter(new LoggingProperties()))
+            .build();
+    body = "{\"letters\":\"" + letters + "\"}";
+  }
+
+  @Benchmark
+  public MvcResult computeScore() throws Exception {
+    return mockMvc
+        .perform(
+            post("/api/v1/scores/compute").contentType(MediaType.APPLICATION_JSON).content(body))
+        .andReturn();
+  }
+}
@@ -0,0 +1,92 @@
+package com.scrabble.score;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.scrabble.score.dto.ScoreComputeDTO;
+import com.scrabble.score.dto.ScoreDTO;
+import com.scrabble.score.dto.TopScoreDTO;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Entity to DTO mapping of a top-N page and Jackson serialization of the resulting DTOs. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ScoreMappingBenchmark {
+
+  @Param({"10", "100"})
+  private int pageSize;
+
+  private List<Score> page;
+  private List<TopScoreDTO> topScores;
+  private ScoreDTO scoreDTO;
+  private ScoreComputeDTO scoreComputeDTO;
+  private ObjectMapper objectMapper;
+
+  @Setup
+  public void setUp() {
+    LocalDateTime now = LocalDateTime.now();
+    page = new ArrayList<>(pageSize);
+    for (int i = 0; i < pageSize; i++) {
+      page.add(
+          Score.builder()
+              .id(UUID.randomUUID())
+              .letters("QUIZZIFIED")
+              .points(pageSize - i)
+              .createdAt(now.minusSeconds(i))
+              .build());
+    }
+    topScores = ScoreMapper.toTopScoreDTOs(page, 1);
+    scoreDTO = ScoreMapper.toScoreDTO(page.get(0));
+    scoreComputeDTO = ScoreComputeDTO.builder().letters("QUIZZIFIED").score(41).build();
+
+    // Mirrors the Spring Boot defaults for java.time serialization
+    objectMapper = new ObjectMapper();
+    objectMapper.registerModule(new JavaTimeModule());
+    objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+  }
+
+  @Benchmark
+  public ScoreDTO mapScore() {
+    return ScoreMapper.toScoreDTO(page.get(0));
+  }
+
+  @Benchmark
+  public List<TopScoreDTO> mapTopScoresPage() {
+    return ScoreMapper.toTopScoreDTOs(page, 1);
+  }
+
+  @Benchmark
+  public byte[] serializeTopScoresPage() throws JsonProcessingException {
+    return objectMapper.writeValueAsBytes(topScores);
+  }
+
+  @Benchmark
+  public byte[] serializeScore() throws JsonProcessingException {
+    return objectMapper.writeValueAsBytes(scoreDTO);
+  }
+
+  @Benchmark
+  public byte[] serializeComputedScore() throws JsonProcessingException {
+    return objectMapper.writeValueAsBytes(scoreComputeDTO);
+  }
+}
@@ -0,0 +1,59 @@
+package com.scrabble.score;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Letter scoring through the service and directly through the compiled table. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ScoringBenchmark {
+
+  /** Short word, long word, mixed case and mostly non-letter input. */
+  @Param({"CAT", "OXYPHENBUTAZONE", "QuIzZiFiEd", "H3LL0-W0RLD!"})
+  private String letters;
+
+  /** English scores through the ASCII table, Spanish through the tile automaton for CH, LL, RR. */
+  @Param({"en", "es"})
+  private String ruleSet;
+
+  private ScoringRulesService scoringRulesService;
+  private ScoringTable scoringTable;
+  private byte[] letterBytes;
+
+  @Setup
+  public void setUp() {
+    scoringRulesService = new ScoringRulesServiceImpl(new ScoreProperties());
+    scoringTable = scoringRulesService.getScoringTable(ruleSet);
+    letterBytes = letters.getBytes(StandardCharsets.US_ASCII);
+  }
+
+  @Benchmark
+  public int computeScore() {
+    return scoringRulesService.computeScore(letters, ruleSet);
+  }
+
+  @Benchmark
+  public int scoreCharSequence() {
+    return scoringTable.score(letters);
+  }
+
+  @Benchmark
+  public int scoreBytes() {
+    return scoringTable.score(letterBytes);
+  }
+}
@@ -0,0 +1,116 @@
+package com.scrabble.board;
+
+import java.util.List;
+
+/**
+ * Immutable 15x15 board state.
+ *
+ * <p>Squares are numbered row by row from 0 to 224. Each square holds one byte: 0 when empty, the
+ * upper case letter of a regular tile, or the lower case letter a blank was played as. Occupancy
+ * is also kept as a 225-bit bitboard in four longs, so emptiness and neighbour checks are single
+ * bit tests, and a move generator can find anchor squares with shifts and masks.
+ */
+public final class Board {
+  public static final int SIZE = 15;
+  public static final int SQUARES = SIZE * SIZE;
+  public static final int CENTER = square(SIZE / 2, SIZE / 2);
+
+  static final char EMPTY = '.';
+
+  private static final Board EMPTY_BOARD = new Board(new byte[SQUARES]);
+
+  private final byte[] tiles;
+  private final long[] occupied = new long[(SQUARES + Long.SIZE - 1) / Long.SIZE];
+
+  private Board(byte[] tiles) {
+    this.tiles = tiles;
+    for (int square = 0; square < SQUARES; square++) {
+      if (tiles[square] != 0) {
+        occupied[square >>> 6] |= 1L << square;
+      }
+    }
+  }
+
+  public static Board empty() {
+    return EMPTY_BOARD;
+  }
+
+  /**
+   * Reads a board written as 15 rows of 15 characters: a letter for a tile, in lower case when it
+   * is a blank, or {@code .} for an empty square.
+   */
+  public static Board parse(List<String> rows) {
+    if (rows == null || rows.size() != SIZE) {
+      throw new IllegalArgumentException(
+          String.format("The board must have %d rows of %d squares.", SIZE, SIZE));
+    }
+    byte[] tiles = new byte[SQUARES];
+    for (int row = 0; row < SIZE; row++) {
+      String squares = rows.get(row);
+      if (squares == null || squares.length() != SIZE) {
+        throw new IllegalArgumentException(
+            String.format("The board must have %d rows of %d squares.", SIZE, SIZE));
+      }
+      for (int column = 0; column < SIZE; column++) {
+        char tile = squares.charAt(column);
+        if (tile == EMPTY) {
+          continue;
+        }
+        if (!isLetter(tile)) {
+          throw new IllegalArgumentException(
+              String.format("Board squares must be letters or '%s' when empty.", EMPTY));
+        }
+        tiles[square(row, column)] = (byte) tile;
+      }
+    }
+    return new Board(tiles);
+  }
+
+  public static int square(int row, int column) {
+    return row * SIZE + column;
+  }
+
+  public static boolean isOnBoard(int row, int column) {
+    return row >= 0 && row < SIZE && column >= 0 && column < SIZE;
+  }
+
+  public boolean isOccupied(int square) {
+    return (occupied[square >>> 6] & (1L << square)) != 0;
+  }
+
+  public boolean isEmpty() {
+    for (long bits : occupied) {
+      if (bits != 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  public int tileCount() {
+    int count = 0;
+    for (long bits : occupied) {
+      count += Long.bitCount(bits);
+    }
+    return count;
+  }
+
+  /** Returns the tile on the square as it was played, in lower case for a blank, or 0 if empty. */
+  public char tileAt(int square) {
+    return (char) tiles[square];
+  }
+
+  /** Whether the tile on the square is a blank, which scores nothing. */
+  public boolean isBlank(int square) {
+    return tiles[square] >= 'a';
+  }
+
+  /** Copy of the occupancy bitboard, bit {@code square % 64} of word {@code square / 64}. */
+  public long[] occupancy() {
+    return occupied.clone();
+  }
+
+  static boolean isLetter(char c) {
+    return (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z');
+  }
+}
@@ -0,0 +1,29 @@
+package com.scrabble.board;
+
+/** Direction a word is read in on the board. */
+public enum Direction {
+  ACROSS(1),
+  DOWN(Board.SIZE);
+
+  private final int step;
+
+  Direction(int step) {
+    this.step = step;
+  }
+
+  /** Distance between consecutive squares of a word, in square indices. */
+  public int step() {
+    return step;
+  }
+
+  /** Step of the words crossing a word in this direction. */
+  public int crossStep() {
+    return this == ACROSS ? DOWN.step : ACROSS.step;
+  }
+
+  /** Whether {@code length} squares starting at {@code row} and {@code column} are on the board. */
+  public boolean fits(int row, int column, int length) {
+    int end = (this == ACROSS ? column : row) + length - 1;
+    return Board.isOnBoard(row, column) && length > 0 && end < Board.SIZE;
+  }
+}
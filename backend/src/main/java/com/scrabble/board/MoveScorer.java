@@ -0,0 +1,167 @@
+package com.scrabble.board;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Scores a word placed on a {@link Board} under the standard rules.
+ *
+ * <p>The main word and every cross-word formed by a newly placed tile are scored. Letter and word
+ * multipliers only count on squares covered by this move, and blanks score nothing. Placing all
+ * seven tiles of a rack earns a 50-point bonus. The move is checked for placement (it must fit,
+ * match the tiles it covers, connect to the board or cover the centre square on the first move),
+ * but not against a dictionary.
+ */
+public final class MoveScorer {
+  public static final int RACK_SIZE = 7;
+  public static final int BINGO_BONUS = 50;
+
+  private MoveScorer() {}
+
+  /**
+   * @param word the whole word the move forms, including tiles already on the board; letters
+   *     placed from a blank are in lower case
+   * @param letterPoints points of the letters A to Z, indexed from 0
+   */
+  public static MoveScore score(
+      Board board, int row, int column, Direction direction, String word, int[] letterPoints) {
+    int length = word == null ? 0 : word.length();
+    if (length < 2) {
+      throw new IllegalArgumentException("A word must be at least two letters long.");
+    }
+    for (int i = 0; i < length; i++) {
+      if (!Board.isLetter(word.charAt(i))) {
+        throw new IllegalArgumentException("The word must consist of letters only.");
+      }
+    }
+    if (!direction.fits(row, column, length)) {
+      throw new IllegalArgumentException("The word does not fit on the board.");
+    }
+
+    int step = direction.step();
+    int crossStep = direction.crossStep();
+    int start = Board.square(row, column);
+    int end = start + (length - 1) * step;
+    int along = direction == Direction.ACROSS ? column : row;
+    if ((along > 0 && board.isOccupied(start - step))
+        || (along + length < Board.SIZE && board.isOccupied(end + step))) {
+      throw new IllegalArgumentException(
+          "The word must include the tiles directly before and after it.");
+    }
+
+    List<ScoredWord> crossWords = new ArrayList<>();
+    char[] letters = new char[length];
+    int mainScore = 0;
+    int wordMultiplier = 1;
+    int placed = 0;
+    boolean connected = false;
+    for (int i = 0; i < length; i++) {
+      int square = start + i * step;
+      char letter = word.charAt(i);
+      if (board.isOccupied(square)) {
+        char tile = board.tileAt(square);
+        if (Character.toUpperCase(tile) != Character.toUpperCase(letter)) {
+          throw new IllegalArgumentException(
+              String.format(
+                  "'%s' does not match the tile '%s' at row %d, column %d.",
+                  letter, tile, square / Board.SIZE, square % Board.SIZE));
+        }
+        letters[i] = tile;
+        mainScore += points(tile, letterPoints);
+        connected = true;
+        continue;
+      }
+
+      letters[i] = letter;
+      placed++;
+      int letterScore = points(letter, letterPoints) * Premium.letterMultiplier(square);
+      mainScore += letterScore;
+      wordMultiplier *= Premium.wordMultiplier(square);
+      connected |= square == Board.CENTER && board.isEmpty();
+
+      ScoredWord crossWord = crossWord(board, square, crossStep, letter, letterScore, letterPoints);
+      if (crossWord != null) {
+        crossWords.add(crossWord);
+        connected = true;
+      }
+    }
+
+    if (placed == 0) {
+      throw new IllegalArgumentException("The move must place at least one tile.");
+    }
+    if (placed > RACK_SIZE) {
+      throw new IllegalArgumentException(
+          String.format("A move cannot place more than %d tiles.", RACK_SIZE));
+    }
+    if (!connected) {
+      throw new IllegalArgumentException(
+          board.isEmpty()
+              ? "The first move must cover the centre square."
+              : "The move must connect to the tiles on the board.");
+    }
+
+    List<ScoredWord> words = new ArrayList<>(crossWords.size() + 1);
+    words.add(new ScoredWord(new String(letters), mainScore * wordMultiplier));
+    words.addAll(crossWords);
+    boolean bingo = placed == RACK_SIZE;
+    int total = bingo ? BINGO_BONUS : 0;
+    for (ScoredWord scoredWord : words) {
+      total += scoredWord.score();
+    }
+    return new MoveScore(total, words, placed, bingo);
+  }
+
+  /**
+   * Returns the word crossing the newly placed {@code letter} on {@code square}, or {@code null}
+   * when no tile is next to it in the cross direction.
+   */
+  private static ScoredWord crossWord(
+      Board board, int square, int step, char letter, int letterScore, int[] letterPoints) {
+    int first = square;
+    while (hasNeighbour(first, -step) && board.isOccupied(first - step)) {
+      first -= step;
+    }
+    int last = square;
+    while (hasNeighbour(last, step) && board.isOccupied(last + step)) {
+      last += step;
+    }
+    if (first == last) {
+      return null;
+    }
+
+    StringBuilder crossWord = new StringBuilder((last - first) / step + 1);
+    int score = letterScore;
+    for (int current = first; current <= last; current += step) {
+      if (current == square) {
+        crossWord.append(letter);
+      } else {
+        char tile = board.tileAt(current);
+        crossWord.append(tile);
+        score += points(tile, letterPoints);
+      }
+    }
+    return new ScoredWord(crossWord.toString(), score * Premium.wordMultiplier(square));
+  }
+
+  /** Whether moving {@code offset} from {@code square} stays on the board and in line. */
+  private static boolean hasNeighbour(int square, int offset) {
+    int neighbour = square + offset;
+    if (neighbour < 0 || neighbour >= Board.SQUARES) {
+      return false;
+    }
+    // A step of one must not wrap onto the next or previous row
+    return Math.abs(offset) != 1 || neighbour / Board.SIZE == square / Board.SIZE;
+  }
+
+  private static int points(char tile, int[] letterPoints) {
+    return tile >= 'a' ? 0 : letterPoints[tile - 'A'];
+  }
+
+  /** A word formed by a move and its score, with blanks in lower case. */
+  public record ScoredWord(String word, int score) {}
+
+  /**
+   * Total score of a move, with the main word first in {@code words} followed by the cross-words.
+   */
+  public record MoveScore(int score, List<ScoredWord> words, int tilesPlaced, boolean bingo) {}
+}
@@ -0,0 +1,44 @@
+package com.scrabble.board;
+
+/** Letter and word multipliers of the standard board, indexed by square. */
+final class Premium {
+  // T triple word, D double word, t triple letter, d double letter
+  private static final String[] LAYOUT = {
+    "T..d...T...d..T",
+    ".D...t...t...D.",
+    "..D...d.d...D..",
+    "d..D...d...D..d",
+    "....D.....D....",
+    ".t...t...t...t.",
+    "..d...d.d...d..",
+    "T..d...D...d..T",
+    "..d...d.d...d..",
+    ".t...t...t...t.",
+    "....D.....D....",
+    "d..D...d...D..d",
+    "..D...d.d...D..",
+    ".D...t...t...D.",
+    "T..d...T...d..T"
+  };
+
+  private static final byte[] LETTER_MULTIPLIERS = new byte[Board.SQUARES];
+  private static final byte[] WORD_MULTIPLIERS = new byte[Board.SQUARES];
+
+  static {
+    for (int square = 0; square < Board.SQUARES; square++) {
+      char premium = LAYOUT[square / Board.SIZE].charAt(square % Board.SIZE);
+      LETTER_MULTIPLIERS[square] = (byte) (premium == 't' ? 3 : premium == 'd' ? 2 : 1);
+      WORD_MULTIPLIERS[square] = (byte) (premium == 'T' ? 3 : premium == 'D' ? 2 : 1);
+    }
+  }
+
+  private Premium() {}
+
+  static int letterMultiplier(int square) {
+    return LETTER_MULTIPLIERS[square];
+  }
+
+  static int wordMultiplier(int square) {
+    return WORD_MULTIPLIERS[square];
+  }
+}
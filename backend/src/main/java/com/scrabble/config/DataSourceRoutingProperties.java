@@ -0,0 +1,23 @@
+package com.scrabble.config;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "scrabble.datasource")
+public class DataSourceRoutingProperties {
+  /**
+   * JDBC URLs of read replicas of {@code spring.datasource.url}, connected to with the same
+   * credentials. When empty, all queries go to the primary.
+   */
+  private List<String> replicaUrls = new ArrayList<>();
+
+  /** Replication lag above which a replica stops serving reads until it catches up. */
+  private Duration maxReplicaLag = Duration.ofSeconds(5);
+
+  /** Time between replication lag checks of each replica. */
+  private Duration lagCheckInterval = Duration.ofSeconds(5);
+}
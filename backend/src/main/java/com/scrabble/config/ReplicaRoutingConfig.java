@@ -0,0 +1,68 @@
+package com.scrabble.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.flyway.FlywayDataSource;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+/**
+ * Replaces the auto-configured data source with one that routes read-only transactions to the
+ * replicas in {@code scrabble.datasource.replica-urls} and all other work to the primary.
+ *
+ * <p>Only reads in a read-only transaction go to a replica: the finders Spring Data inherits, such
+ * as {@code findById}, and the query methods marked read-only on {@code ScoreRepository}. Other
+ * declared query methods get no transaction and read the primary. Code that must see its own
+ * writes, such as cache reloads after a delete, runs in a read-write transaction. Migrations
+ * always use the primary.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnExpression("'${scrabble.datasource.replica-urls:}' != ''")
+public class ReplicaRoutingConfig {
+
+  @Bean
+  @FlywayDataSource
+  @ConfigurationProperties("spring.datasource.hikari")
+  public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+    return dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+  }
+
+  @Bean
+  public ReplicaRoutingDataSource replicaRoutingDataSource(
+      HikariDataSource primaryDataSource,
+      DataSourceProperties dataSourceProperties,
+      DataSourceRoutingProperties routingProperties) {
+    Map<String, DataSource> replicas = new LinkedHashMap<>();
+    List<String> replicaUrls = routingProperties.getReplicaUrls();
+    for (int i = 0; i < replicaUrls.size(); i++) {
+      HikariDataSource replica =
+          dataSourceProperties
+              .initializeDataSourceBuilder()
+              .type(HikariDataSource.class)
+              .url(replicaUrls.get(i))
+              .build();
+      replica.setPoolName("replica-" + i);
+      replica.setReadOnly(true);
+      replica.setMaximumPoolSize(primaryDataSource.getMaximumPoolSize());
+      replica.setConnectionTimeout(primaryDataSource.getConnectionTimeout());
+      replicas.put(replica.getPoolName(), replica);
+    }
+    return new ReplicaRoutingDataSource(
+        primaryDataSource, replicas, routingProperties.getMaxReplicaLag());
+  }
+
+  /** Fetches the connection on the first statement, once the transaction is read-only or not. */
+  @Bean
+  @Primary
+  public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+    return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+  }
+}
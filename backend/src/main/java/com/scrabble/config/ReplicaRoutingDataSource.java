@@ -0,0 +1,173 @@
+package com.scrabble.config;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Sends connections of read-only transactions to a read replica, round robin, and everything else
+ * to the primary.
+ *
+ * <p>A replica only serves reads while its last lag check found it in recovery and within {@code
+ * maxLag}; reads fall back to the primary when none does, or when a replica refuses a connection.
+ * Replicas start out unused until their first check.
+ *
+ * <p>The read-only flag is only known once the transaction has started, so this must sit behind a
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy} that fetches the
+ * connection on the first statement.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements DisposableBean {
+  static final String PRIMARY = "primary";
+
+  /**
+   * Seconds the replica is behind, 0 when it has replayed everything it received, and {@code NULL}
+   * when the server is not a standby at all, such as a misconfigured URL or a promoted replica.
+   */
+  static final String LAG_SQL =
+      "SELECT CASE WHEN NOT pg_is_in_recovery() THEN NULL"
+          + " WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0"
+          + " ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0) END";
+
+  private final DataSource primary;
+  private final List<Replica> replicas = new ArrayList<>();
+  private final Duration maxLag;
+  private final AtomicInteger next = new AtomicInteger();
+
+  /**
+   * @param replicas replica data sources by name, such as the pool name
+   */
+  public ReplicaRoutingDataSource(
+      DataSource primary, Map<String, DataSource> replicas, Duration maxLag) {
+    this.primary = primary;
+    this.maxLag = maxLag;
+    Map<Object, Object> targets = new HashMap<>();
+    targets.put(PRIMARY, primary);
+    replicas.forEach(
+        (name, dataSource) -> {
+          this.replicas.add(new Replica(name, dataSource));
+          targets.put(name, dataSource);
+        });
+    setTargetDataSources(targets);
+    setDefaultTargetDataSource(primary);
+    afterPropertiesSet();
+  }
+
+  @Override
+  protected Object determineCurrentLookupKey() {
+    if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly() || replicas.isEmpty()) {
+      return PRIMARY;
+    }
+    int first = Math.floorMod(next.getAndIncrement(), replicas.size());
+    for (int i = 0; i < replicas.size(); i++) {
+      Replica replica = replicas.get((first + i) % replicas.size());
+      if (replica.usable) {
+        return replica.name;
+      }
+    }
+    return PRIMARY;
+  }
+
+  @Override
+  public Connection getConnection() throws SQLException {
+    Object key = determineCurrentLookupKey();
+    if (PRIMARY.equals(key)) {
+      return primary.getConnection();
+    }
+    try {
+      return getResolvedDataSources().get(key).getConnection();
+    } catch (SQLException e) {
+      log.warn("Replica {} refused a connection, reading from primary: {}", key, e.getMessage());
+      for (Replica replica : replicas) {
+        if (replica.name.equals(key)) {
+          replica.usable = false;
+        }
+      }
+      return primary.getConnection();
+    }
+  }
+
+  /** Measures the lag of every replica and takes it in or out of rotation. */
+  @Scheduled(fixedDelayString = "${scrabble.datasource.lag-check-interval:5s}")
+  public void checkReplicas() {
+    for (Replica replica : replicas) {
+      Duration lag;
+      try {
+        Double seconds = replica.jdbcTemplate.queryForObject(LAG_SQL, Double.class);
+        if (seconds == null) {
+          // Not in recovery: a primary or a promoted standby, which no longer follows the primary
+          log.debug("Replica {} is not a standby", replica.name);
+          lag = null;
+        } else {
+          lag = Duration.ofMillis(Math.round(seconds * 1000));
+        }
+      } catch (DataAccessException e) {
+        log.debug("Lag check of replica {} failed: {}", replica.name, e.getMessage());
+        lag = null;
+      }
+      recordLag(replica, lag);
+    }
+  }
+
+  /**
+   * @param lag replication lag, or {@code null} when the replica could not be reached or is not a
+   *     standby
+   */
+  void recordLag(String name, Duration lag) {
+    for (Replica replica : replicas) {
+      if (replica.name.equals(name)) {
+        recordLag(replica, lag);
+      }
+    }
+  }
+
+  private void recordLag(Replica replica, Duration lag) {
+    boolean usable = lag != null && lag.compareTo(maxLag) <= 0;
+    if (usable != replica.usable) {
+      if (usable) {
+        log.info("Replica {} is {} ms behind, serving reads", replica.name, lag.toMillis());
+      } else {
+        log.warn(
+            "Replica {} is {}, reads go elsewhere",
+            replica.name,
+            lag == null ? "unreachable or not a standby" : lag.toMillis() + " ms behind");
+      }
+    }
+    replica.usable = usable;
+  }
+
+  @Override
+  public void destroy() throws Exception {
+    for (Replica replica : replicas) {
+      if (replica.dataSource instanceof AutoCloseable closeable) {
+        closeable.close();
+      }
+    }
+  }
+
+  private static final class Replica {
+    private final String name;
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private volatile boolean usable;
+
+    private Replica(String name, DataSource dataSource) {
+      this.name = name;
+      this.dataSource = dataSource;
+      this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+  }
+}
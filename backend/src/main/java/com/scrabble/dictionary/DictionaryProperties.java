@@ -0,0 +1,14 @@
+package com.scrabble.dictionary;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "scrabble.dictionary")
+public class DictionaryProperties {
+  /**
+   * Word list loaded at startup, one word per line. When unset, word validation is unavailable and
+   * requests asking for it are rejected.
+   */
+  private String path;
+}
@@ -0,0 +1,11 @@
+package com.scrabble.dictionary;
+
+public interface DictionaryService {
+  /** Whether a word list has been loaded and words can be validated. */
+  boolean isAvailable();
+
+  boolean isValid(String word);
+
+  /** The loaded words, for searches beyond single-word lookups. */
+  Lexicon getLexicon();
+}
@@ -0,0 +1,67 @@
+package com.scrabble.dictionary;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.stereotype.Service;
+
+@Service
+@Slf4j
+public class DictionaryServiceImpl implements DictionaryService {
+
+  private final Lexicon lexicon;
+  private final boolean available;
+
+  public DictionaryServiceImpl(DictionaryProperties dictionaryProperties) {
+    String path = dictionaryProperties.getPath();
+    this.available = StringUtils.isNotBlank(path);
+    this.lexicon = available ? load(Path.of(path)) : Lexicon.empty();
+  }
+
+  @Override
+  public boolean isAvailable() {
+    return available;
+  }
+
+  @Override
+  public boolean isValid(String word) {
+    return getLexicon().contains(word);
+  }
+
+  @Override
+  public Lexicon getLexicon() {
+    if (!available) {
+      throw new IllegalArgumentException("No dictionary is configured.");
+    }
+    return lexicon;
+  }
+
+  /**
+   * Maps a binary lexicon built by {@link LexiconWriter} in place, or falls back to parsing a plain
+   * word list onto the heap.
+   */
+  private static Lexicon load(Path path) {
+    try {
+      Lexicon lexicon = Lexicon.isBinary(path) ? Lexicon.map(path) : readWordList(path);
+      log.info(
+          "Loaded {} dictionary words from {} ({} KB, {})",
+          lexicon.size(),
+          path,
+          lexicon.sizeInBytes() / 1024,
+          lexicon.isMapped() ? "memory-mapped" : "heap");
+      return lexicon;
+    } catch (IOException e) {
+      throw new UncheckedIOException("Could not load dictionary from " + path, e);
+    }
+  }
+
+  private static Lexicon readWordList(Path path) throws IOException {
+    try (InputStream input = Files.newInputStream(path)) {
+      return Lexicon.read(input);
+    }
+  }
+}
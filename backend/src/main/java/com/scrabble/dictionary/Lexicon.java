@@ -0,0 +1,312 @@
+package com.scrabble.dictionary;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Immutable set of words stored as one sorted, packed byte array.
+ *
+ * <p>Words are kept in upper case ASCII, back to back in {@code words}, with {@code offsets[i]}
+ * marking where word {@code i} starts and {@code offsets[size]} the end of the last word. A full
+ * 270k-word Scrabble lexicon takes about 2.5 MB of letters plus 1 MB of offsets, with no per-word
+ * object overhead. Lookups are a binary search comparing bytes in place, so they allocate nothing
+ * and take well under a microsecond.
+ *
+ * <p>Only words made of the letters A to Z (in either case) are accepted; anything else is skipped
+ * on load and never contained.
+ *
+ * <p>A lexicon can be saved with {@link #write(OutputStream)} and opened again with {@link
+ * #map(Path)}, which memory-maps the file and answers lookups straight from it. Startup then skips
+ * parsing and sorting, and JVMs on the same host share one copy through the OS page cache. The
+ * binary layout is a header of four big-endian ints (magic, version, word count, letter count),
+ * followed by the offsets as ints and then the letters.
+ */
+public final class Lexicon {
+  static final int MAGIC = 0x4C455831; // "LEX1"
+  static final int FORMAT_VERSION = 1;
+
+  private static final int HEADER_BYTES = 4 * Integer.BYTES;
+  private static final Lexicon EMPTY = new Lexicon(new byte[0], new int[] {0});
+
+  private final ByteBuffer words;
+  private final IntBuffer offsets;
+  private final boolean mapped;
+
+  private Lexicon(byte[] words, int[] offsets) {
+    this(ByteBuffer.wrap(words), IntBuffer.wrap(offsets), false);
+  }
+
+  private Lexicon(ByteBuffer words, IntBuffer offsets, boolean mapped) {
+    this.words = words;
+    this.offsets = offsets;
+    this.mapped = mapped;
+  }
+
+  public static Lexicon empty() {
+    return EMPTY;
+  }
+
+  public static Lexicon of(Collection<? extends CharSequence> words) {
+    List<String> normalized = new ArrayList<>(words.size());
+    for (CharSequence word : words) {
+      String upperCase = normalize(word);
+      if (upperCase != null) {
+        normalized.add(upperCase);
+      }
+    }
+    return pack(normalized);
+  }
+
+  /**
+   * Reads a word list with one word per line. Blank lines, lines starting with {@code #} and words
+   * containing anything other than letters are skipped. The stream is not closed.
+   */
+  public static Lexicon read(InputStream input) throws IOException {
+    BufferedReader reader =
+        new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+    List<String> normalized = new ArrayList<>();
+    String line;
+    while ((line = reader.readLine()) != null) {
+      String trimmed = line.strip();
+      if (trimmed.isEmpty() || trimmed.startsWith("#")) {
+        continue;
+      }
+      String upperCase = normalize(trimmed);
+      if (upperCase != null) {
+        normalized.add(upperCase);
+      }
+    }
+    return pack(normalized);
+  }
+
+  /**
+   * Opens a file written by {@link #write(OutputStream)} without copying it onto the heap. The file
+   * must not be modified while the lexicon is in use.
+   */
+  public static Lexicon map(Path path) throws IOException {
+    ByteBuffer file;
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      file = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+    }
+    if (file.capacity() < HEADER_BYTES || file.getInt(0) != MAGIC) {
+      throw new IOException(path + " is not a binary lexicon.");
+    }
+    int version = file.getInt(Integer.BYTES);
+    if (version != FORMAT_VERSION) {
+      throw new IOException(
+          String.format("%s has unsupported lexicon format version %d.", path, version));
+    }
+    int count = file.getInt(2 * Integer.BYTES);
+    int lettersLength = file.getInt(3 * Integer.BYTES);
+    long offsetsBytes = (count + 1L) * Integer.BYTES;
+    if (count < 0
+        || lettersLength < 0
+        || HEADER_BYTES + offsetsBytes + lettersLength != file.capacity()) {
+      throw new IOException(path + " is truncated or corrupt.");
+    }
+
+    IntBuffer offsets = file.slice(HEADER_BYTES, (int) offsetsBytes).asIntBuffer();
+    ByteBuffer words = file.slice(HEADER_BYTES + (int) offsetsBytes, lettersLength);
+    return new Lexicon(words, offsets, true);
+  }
+
+  /** Whether the file starts with the binary lexicon header rather than being a plain word list. */
+  public static boolean isBinary(Path path) throws IOException {
+    try (InputStream input = Files.newInputStream(path)) {
+      byte[] header = input.readNBytes(Integer.BYTES);
+      return header.length == Integer.BYTES && ByteBuffer.wrap(header).getInt() == MAGIC;
+    }
+  }
+
+  /**
+   * Writes this lexicon in the binary format read by {@link #map(Path)}. The stream is flushed but
+   * not closed.
+   */
+  public void write(OutputStream output) throws IOException {
+    DataOutputStream data = new DataOutputStream(new BufferedOutputStream(output));
+    data.writeInt(MAGIC);
+    data.writeInt(FORMAT_VERSION);
+    data.writeInt(size());
+    data.writeInt(words.capacity());
+    for (int i = 0; i < offsets.capacity(); i++) {
+      data.writeInt(offsets.get(i));
+    }
+    for (int i = 0; i < words.capacity(); i++) {
+      data.write(words.get(i));
+    }
+    data.flush();
+  }
+
+  public int size() {
+    return offsets.capacity() - 1;
+  }
+
+  /** Bytes taken by the packed words and their offsets, on the heap or in the mapped file. */
+  public long sizeInBytes() {
+    return words.capacity() + (long) offsets.capacity() * Integer.BYTES;
+  }
+
+  /** Whether lookups are served from a memory-mapped file rather than the heap. */
+  public boolean isMapped() {
+    return mapped;
+  }
+
+  /** Case-insensitive membership test. */
+  public boolean contains(CharSequence word) {
+    if (word == null || word.isEmpty()) {
+      return false;
+    }
+    for (int i = 0, length = word.length(); i < length; i++) {
+      if (toUpperLetter(word.charAt(i)) < 0) {
+        return false;
+      }
+    }
+
+    int low = 0;
+    int high = size() - 1;
+    while (low <= high) {
+      int mid = (low + high) >>> 1;
+      int comparison = compare(mid, word);
+      if (comparison < 0) {
+        low = mid + 1;
+      } else if (comparison > 0) {
+        high = mid - 1;
+      } else {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /** Returns word {@code index} in sorted order, in upper case. */
+  public String word(int index) {
+    int start = offsets.get(index);
+    char[] letters = new char[offsets.get(index + 1) - start];
+    for (int i = 0; i < letters.length; i++) {
+      letters[i] = (char) words.get(start + i);
+    }
+    return new String(letters);
+  }
+
+  public int wordLength(int index) {
+    return offsets.get(index + 1) - offsets.get(index);
+  }
+
+  /**
+   * Returns the upper case letter at {@code depth} of word {@code index}, or -1 when the word is
+   * not longer than {@code depth}.
+   */
+  public int letterAt(int index, int depth) {
+    int start = offsets.get(index);
+    return depth < offsets.get(index + 1) - start ? words.get(start + depth) : -1;
+  }
+
+  /**
+   * Returns the first index in {@code [from, to)} whose letter at {@code depth} is not below {@code
+   * letter}, or {@code to} if there is none. All words in the range must share their first {@code
+   * depth} letters, as the ranges met while walking the sorted words letter by letter do; this
+   * makes the words a trie that can be walked without building one.
+   */
+  public int lowerBound(int from, int to, int depth, int letter) {
+    int low = from;
+    int high = to;
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      if (letterAt(mid, depth) < letter) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+    return low;
+  }
+
+  /** Compares word {@code index} with {@code word}, which must consist of letters only. */
+  private int compare(int index, CharSequence word) {
+    int start = offsets.get(index);
+    int length = offsets.get(index + 1) - start;
+    int common = Math.min(length, word.length());
+    for (int i = 0; i < common; i++) {
+      int difference = words.get(start + i) - toUpperLetter(word.charAt(i));
+      if (difference != 0) {
+        return difference;
+      }
+    }
+    return length - word.length();
+  }
+
+  private static Lexicon pack(List<String> normalized) {
+    // Upper case ASCII sorts the same as String and byte order, so no comparator is needed
+    normalized.sort(null);
+
+    int[] offsets = new int[normalized.size() + 1];
+    int totalLength = 0;
+    int count = 0;
+    String previous = null;
+    for (String word : normalized) {
+      if (!word.equals(previous)) {
+        totalLength += word.length();
+        offsets[++count] = totalLength;
+        previous = word;
+      }
+    }
+
+    byte[] words = new byte[totalLength];
+    int position = 0;
+    previous = null;
+    for (String word : normalized) {
+      if (!word.equals(previous)) {
+        for (int i = 0; i < word.length(); i++) {
+          words[position++] = (byte) word.charAt(i);
+        }
+        previous = word;
+      }
+    }
+
+    int[] trimmed = new int[count + 1];
+    System.arraycopy(offsets, 0, trimmed, 0, count + 1);
+    return new Lexicon(words, trimmed);
+  }
+
+  /** Returns the word in upper case, or {@code null} when it is empty or not all letters. */
+  private static String normalize(CharSequence word) {
+    if (word == null || word.isEmpty()) {
+      return null;
+    }
+    char[] upperCase = new char[word.length()];
+    for (int i = 0; i < upperCase.length; i++) {
+      int letter = toUpperLetter(word.charAt(i));
+      if (letter < 0) {
+        return null;
+      }
+      upperCase[i] = (char) letter;
+    }
+    return new String(upperCase);
+  }
+
+  /** Returns the upper case form of an ASCII letter, or -1 for any other character. */
+  private static int toUpperLetter(char c) {
+    if (c >= 'A' && c <= 'Z') {
+      return c;
+    }
+    if (c >= 'a' && c <= 'z') {
+      return c - ('a' - 'A');
+    }
+    return -1;
+  }
+}
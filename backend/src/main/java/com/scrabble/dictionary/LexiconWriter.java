@@ -0,0 +1,57 @@
+package com.scrabble.dictionary;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * Build-time tool converting a plain word list into the binary lexicon format, so instances can
+ * memory-map it at startup instead of parsing text.
+ *
+ * <p>Usage: {@code ./gradlew buildLexicon -PwordList=words.txt -Plexicon=words.lex}
+ */
+public final class LexiconWriter {
+
+  private LexiconWriter() {}
+
+  public static void main(String[] args) throws IOException {
+    if (args.length != 2) {
+      System.err.println("Usage: LexiconWriter <word-list> <output-lexicon>");
+      System.exit(2);
+    }
+    Path wordList = Path.of(args[0]);
+    Path output = Path.of(args[1]);
+
+    Lexicon lexicon = convert(wordList, output);
+    System.out.printf(
+        "Wrote %d words (%d KB) to %s%n", lexicon.size(), lexicon.sizeInBytes() / 1024, output);
+  }
+
+  /**
+   * Writes the lexicon to a temporary file next to {@code output} and moves it into place, so
+   * running instances never map a half-written file.
+   */
+  static Lexicon convert(Path wordList, Path output) throws IOException {
+    Lexicon lexicon;
+    try (InputStream input = Files.newInputStream(wordList)) {
+      lexicon = Lexicon.read(input);
+    }
+
+    Path absoluteOutput = output.toAbsolutePath();
+    Files.createDirectories(absoluteOutput.getParent());
+    Path temporary =
+        Files.createTempFile(absoluteOutput.getParent(), output.getFileName().toString(), ".tmp");
+    try {
+      try (OutputStream out = Files.newOutputStream(temporary)) {
+        lexicon.write(out);
+      }
+      Files.move(temporary, absoluteOutput, StandardCopyOption.REPLACE_EXISTING);
+    } finally {
+      Files.deleteIfExists(temporary);
+    }
+    return lexicon;
+  }
+}
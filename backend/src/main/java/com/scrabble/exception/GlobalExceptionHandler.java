@@ -2,24 +2,49 @@ package com.scrabble.exception;
 
 import com.scrabble.exception.dto.ErrorResponseDTO;
 import com.scrabble.exception.dto.ValidationErrorDTO;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.time.LocalDateTime;
 import java.util.List;
 import org.springframework.data.mapping.PropertyReferenceException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.bind.MissingServletRequestParameterException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
 @ControllerAdvice
 public class GlobalExceptionHandler {
+  static final String REJECTED_METRIC = "scrabble.requests.rejected";
+
+  private final Counter invalidArgumentCounter;
+  private final Counter invalidSortCounter;
+  private final Counter validationFailedCounter;
+  private final Counter unreadableBodyCounter;
+  private final Counter missingParameterCounter;
+  private final Counter invalidParameterCounter;
+
+  public GlobalExceptionHandler(MeterRegistry meterRegistry) {
+    this.invalidArgumentCounter = rejectedCounter(meterRegistry, "invalid_argument");
+    this.invalidSortCounter = rejectedCounter(meterRegistry, "invalid_sort");
+    this.validationFailedCounter = rejectedCounter(meterRegistry, "validation_failed");
+    this.unreadableBodyCounter = rejectedCounter(meterRegistry, "unreadable_body");
+    this.missingParameterCounter = rejectedCounter(meterRegistry, "missing_parameter");
+    this.invalidParameterCounter = rejectedCounter(meterRegistry, "invalid_parameter");
+  }
+
   @ExceptionHandler(IllegalArgumentException.class)
   public ResponseEntity<ErrorResponseDTO> handleIllegalArgument(IllegalArgumentException ex) {
+    invalidArgumentCounter.increment();
     return badRequest(ex.getMessage());
   }
 
   @ExceptionHandler(PropertyReferenceException.class)
   public ResponseEntity<ErrorResponseDTO> handleInvalidSortField(PropertyReferenceException ex) {
+    invalidSortCounter.increment();
     String message =
         "Invalid sort field: " + ex.getPropertyName() + ". Valid fields: points, createdAt";
     return badRequest(message);
@@ -28,6 +53,7 @@ public class GlobalExceptionHandler {
   @ExceptionHandler(MethodArgumentNotValidException.class)
   public ResponseEntity<ErrorResponseDTO> handleValidationExceptions(
       MethodArgumentNotValidException ex) {
+    validationFailedCounter.increment();
     List<ValidationErrorDTO> errors =
         ex.getBindingResult().getFieldErrors().stream()
             .map(
@@ -41,6 +67,33 @@ public class GlobalExceptionHandler {
     return badRequest("DTO validation failed", errors);
   }
 
+  @ExceptionHandler(HttpMessageNotReadableException.class)
+  public ResponseEntity<ErrorResponseDTO> handleUnreadableBody(HttpMessageNotReadableException ex) {
+    unreadableBodyCounter.increment();
+    return badRequest("Malformed request body");
+  }
+
+  @ExceptionHandler(MissingServletRequestParameterException.class)
+  public ResponseEntity<ErrorResponseDTO> handleMissingParameter(
+      MissingServletRequestParameterException ex) {
+    missingParameterCounter.increment();
+    return badRequest("Missing required parameter: " + ex.getParameterName());
+  }
+
+  @ExceptionHandler(MethodArgumentTypeMismatchException.class)
+  public ResponseEntity<ErrorResponseDTO> handleInvalidParameter(
+      MethodArgumentTypeMismatchException ex) {
+    invalidParameterCounter.increment();
+    return badRequest("Invalid value for parameter: " + ex.getName());
+  }
+
+  private static Counter rejectedCounter(MeterRegistry meterRegistry, String reason) {
+    return Counter.builder(REJECTED_METRIC)
+        .description("Requests rejected with 400 Bad Request")
+        .tag("reason", reason)
+        .register(meterRegistry);
+  }
+
   private ResponseEntity<ErrorResponseDTO> badRequest(String message) {
     return badRequest(message, null);
   }
@@ -0,0 +1,22 @@
+package com.scrabble.logging;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "scrabble.logging")
+public class LoggingProperties {
+  /**
+   * Fraction of successful requests written to the access log, from 0.0 to 1.0. Requests ending
+   * with a 4xx/5xx status or an exception are always logged.
+   */
+  private double sampleRate = 1.0;
+
+  private Async async = new Async();
+
+  @Data
+  public static class Async {
+    /** Events buffered for the background appender thread before new ones are dropped. */
+    private int queueSize = 8192;
+  }
+}
@@ -8,16 +8,41 @@ import jakarta.servlet.ServletResponse;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
+import org.slf4j.MDC;
 import org.springframework.stereotype.Component;
 
 /**
- * Servlet Filter for logging HTTP requests with focus on user identification and session tracking.
+ * Servlet Filter writing one structured access-log line per request, with focus on user
+ * identification and request correlation.
+ *
+ * <p>Every request carries a request id, taken from the {@code X-Request-Id} header when the caller
+ * supplies a usable one and generated otherwise. The id is put in the MDC as {@code requestId} for
+ * the duration of the request and echoed in the response header. No HTTP session is created.
+ *
+ * <p>Lines are handed to the asynchronous appender configured in {@code logback-spring.xml}, so
+ * request threads never wait on log I/O. Successful requests are sampled at {@code
+ * scrabble.logging.sample-rate}; errors are always logged.
  */
 @Component
 @Slf4j
 public class RequestLoggingFilter implements Filter {
+  public static final String REQUEST_ID_HEADER = "X-Request-Id";
+  public static final String REQUEST_ID_MDC_KEY = "requestId";
+
+  private static final int MAX_REQUEST_ID_LENGTH = 64;
+  private static final String LINE_FORMAT =
+      "method={} uri={} status={} durationMs={} requestId={} ip={} userAgent=\"{}\"";
+
+  private final LoggingProperties loggingProperties;
+
+  public RequestLoggingFilter(LoggingProperties loggingProperties) {
+    this.loggingProperties = loggingProperties;
+  }
 
   @Override
   public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
@@ -26,49 +51,76 @@ public class RequestLoggingFilter implements Filter {
     HttpServletRequest httpRequest = (HttpServletRequest) request;
     HttpServletResponse httpResponse = (HttpServletResponse) response;
 
-    // Extract request details
-    String sessionId = httpRequest.getSession(true).getId();
-    String clientIp = getClientIpAddress(httpRequest);
-    String userAgent = httpRequest.getHeader("User-Agent");
-    String sanUserAgent =
-        StringUtils.isBlank(userAgent) ? "N/A" : StringUtils.substring(userAgent, 0, 100);
-    String method = httpRequest.getMethod();
-    String uri = httpRequest.getRequestURI();
-
-    // Log request: [HTTP Method] [URI] on first line, details on second line
-    log.info(
-        "[{}] [{}]\n    Session: {} | IP: {} | User-Agent: {}",
-        method,
-        uri,
-        sessionId,
-        clientIp,
-        sanUserAgent);
-
-    long startTime = System.currentTimeMillis();
+    String requestId = resolveRequestId(httpRequest);
+    // The header must be set before the response is committed
+    httpResponse.setHeader(REQUEST_ID_HEADER, requestId);
+    MDC.put(REQUEST_ID_MDC_KEY, requestId);
+    long startTime = System.nanoTime();
 
     try {
       chain.doFilter(request, response);
-      long duration = System.currentTimeMillis() - startTime;
+      logCompleted(httpRequest, httpResponse.getStatus(), startTime, requestId);
+    } catch (Exception e) {
+      if (log.isErrorEnabled()) {
+        log.error(
+            LINE_FORMAT + " error=\"{}\"",
+            httpRequest.getMethod(),
+            httpRequest.getRequestURI(),
+            HttpServletResponse.SC_INTERNAL_SERVER_ERROR,
+            elapsedMillis(startTime),
+            requestId,
+            getClientIpAddress(httpRequest),
+            getUserAgent(httpRequest),
+            e.getMessage());
+      }
+      throw e;
+    } finally {
+      MDC.remove(REQUEST_ID_MDC_KEY);
+    }
+  }
 
+  private void logCompleted(
+      HttpServletRequest request, int status, long startTime, String requestId) {
+    if (log.isInfoEnabled() && (status >= 400 || isSampled())) {
       log.info(
-          "[{}] [{}] RESPONSE\n    Session: {} | Status: {} | Duration: {}ms",
-          method,
-          uri,
-          sessionId,
-          httpResponse.getStatus(),
-          duration);
+          LINE_FORMAT,
+          request.getMethod(),
+          request.getRequestURI(),
+          status,
+          elapsedMillis(startTime),
+          requestId,
+          getClientIpAddress(request),
+          getUserAgent(request));
+    }
+  }
 
-    } catch (Exception e) {
-      long duration = System.currentTimeMillis() - startTime;
-      log.error(
-          "[{}] [{}] ERROR\n    Session: {} | Duration: {}ms | Error: {}",
-          method,
-          uri,
-          sessionId,
-          duration,
-          e.getMessage());
-      throw e;
+  /**
+   * Reuses the caller's request id when it is short and printable, so ids can be followed across
+   * services without letting clients inject arbitrary text into the logs.
+   */
+  private static String resolveRequestId(HttpServletRequest request) {
+    String requestId = request.getHeader(REQUEST_ID_HEADER);
+    if (StringUtils.isNotBlank(requestId)
+        && requestId.length() <= MAX_REQUEST_ID_LENGTH
+        && StringUtils.isAsciiPrintable(requestId)
+        && !StringUtils.containsWhitespace(requestId)) {
+      return requestId;
     }
+    return UUID.randomUUID().toString();
+  }
+
+  private boolean isSampled() {
+    double sampleRate = loggingProperties.getSampleRate();
+    return sampleRate >= 1.0 || ThreadLocalRandom.current().nextDouble() < sampleRate;
+  }
+
+  private static long elapsedMillis(long startTime) {
+    return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+  }
+
+  private static String getUserAgent(HttpServletRequest request) {
+    String userAgent = request.getHeader("User-Agent");
+    return StringUtils.isBlank(userAgent) ? "N/A" : StringUtils.substring(userAgent, 0, 100);
   }
 
   private String getClientIpAddress(HttpServletRequest request) {
@@ -0,0 +1,152 @@
+package com.scrabble.score;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Bounded top-K of scores kept in leaderboard order (points, then creation time, then id, all
+ * descending), the order the database pages in.
+ *
+ * <p>Each change publishes a new immutable snapshot, so readers never lock. Writers are not
+ * synchronized here and must be serialized by the owner.
+ */
+final class Leaderboard {
+  /**
+   * Ids in PostgreSQL's (and H2's) uuid order: both halves compared as unsigned numbers. {@link
+   * UUID#compareTo} compares them signed, which disagrees for about half of all random ids.
+   */
+  static final Comparator<UUID> ID_ORDER =
+      (a, b) -> {
+        int high = Long.compareUnsigned(a.getMostSignificantBits(), b.getMostSignificantBits());
+        return high != 0
+            ? high
+            : Long.compareUnsigned(a.getLeastSignificantBits(), b.getLeastSignificantBits());
+      };
+
+  static final Comparator<Score> ORDER =
+      Comparator.comparing(Score::getPoints, Comparator.reverseOrder())
+          .thenComparing(Score::getCreatedAt, Comparator.reverseOrder())
+          .thenComparing(Score::getId, ID_ORDER.reversed());
+
+  private final int capacity;
+  private volatile Snapshot snapshot;
+
+  Leaderboard(int capacity) {
+    if (capacity < 1) {
+      throw new IllegalArgumentException("Leaderboard capacity must be positive.");
+    }
+    this.capacity = capacity;
+  }
+
+  int capacity() {
+    return capacity;
+  }
+
+  boolean isLoaded() {
+    return snapshot != null;
+  }
+
+  /** Whether fewer than {@link #capacity()} entries are held while more rows may exist. */
+  boolean needsRefill() {
+    Snapshot current = snapshot;
+    return current != null && current.truncated && current.entries.length < capacity;
+  }
+
+  /** Replaces the contents with the leading scores of the full table, in any order. */
+  void load(List<Score> top) {
+    Score[] entries = top.stream().sorted(ORDER).limit(capacity).toArray(Score[]::new);
+    snapshot = new Snapshot(entries, top.size() >= capacity);
+  }
+
+  /**
+   * Adds a newly created score if it ranks within the top K.
+   *
+   * @return whether the leaderboard changed
+   */
+  boolean offer(Score score) {
+    Snapshot current = snapshot;
+    if (current == null) {
+      return false;
+    }
+    Score[] entries = current.entries;
+    // Once rows may exist beyond the last entry, anything ranking after it cannot be placed.
+    boolean bounded = current.truncated || entries.length == capacity;
+    Score last = entries.length == 0 ? null : entries[entries.length - 1];
+    if (bounded && (last == null || ORDER.compare(score, last) >= 0)) {
+      if (!current.truncated) {
+        snapshot = new Snapshot(entries, true);
+      }
+      return false;
+    }
+    for (Score entry : entries) {
+      if (entry.getId().equals(score.getId())) {
+        return false;
+      }
+    }
+
+    int position = Arrays.binarySearch(entries, score, ORDER);
+    int insertAt = position < 0 ? -position - 1 : position;
+    int length = Math.min(entries.length + 1, capacity);
+    Score[] next = new Score[length];
+    System.arraycopy(entries, 0, next, 0, insertAt);
+    next[insertAt] = score;
+    System.arraycopy(entries, insertAt, next, insertAt + 1, length - insertAt - 1);
+    snapshot = new Snapshot(next, current.truncated || entries.length == capacity);
+    return true;
+  }
+
+  /**
+   * Drops the given ids from the leaderboard.
+   *
+   * @return the number of entries removed
+   */
+  int remove(Collection<UUID> ids) {
+    Snapshot current = snapshot;
+    if (current == null || ids.isEmpty()) {
+      return 0;
+    }
+    Set<UUID> removed = new HashSet<>(ids);
+    List<Score> kept = new ArrayList<>(current.entries.length);
+    for (Score entry : current.entries) {
+      if (!removed.contains(entry.getId())) {
+        kept.add(entry);
+      }
+    }
+    int removedCount = current.entries.length - kept.size();
+    if (removedCount > 0) {
+      snapshot = new Snapshot(kept.toArray(new Score[0]), current.truncated);
+    }
+    return removedCount;
+  }
+
+  /**
+   * Returns the requested page, or {@code null} when it cannot be answered from memory because the
+   * leaderboard is not loaded or the page reaches past the entries held.
+   */
+  List<Score> page(long offset, int size) {
+    Snapshot current = snapshot;
+    if (current == null) {
+      return null;
+    }
+    Score[] entries = current.entries;
+    long end = offset + size;
+    if (end > entries.length && current.truncated) {
+      return null;
+    }
+    int from = (int) Math.min(offset, entries.length);
+    int to = (int) Math.min(end, entries.length);
+    return Collections.unmodifiableList(Arrays.asList(entries).subList(from, to));
+  }
+
+  /**
+   * @param truncated whether rows ranking after the last entry may exist in the table
+   */
+  private record Snapshot(Score[] entries, boolean truncated) {}
+}
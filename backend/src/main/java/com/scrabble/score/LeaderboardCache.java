@@ -0,0 +1,197 @@
+package com.scrabble.score;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Serves leaderboard pages from in-process {@link Leaderboard}s, one per {@link
+ * LeaderboardWindow}, kept current by {@link ScoreService} on create and delete.
+ *
+ * <p>The all-time leaderboard is warmed from the database at startup. A windowed leaderboard is
+ * loaded on first use with the top scores since the window start. It is then updated in place, and
+ * dropped when the window rolls over, so the next read loads the new window (which starts nearly
+ * empty) instead of scanning the scores table on every request.
+ *
+ * <p>Only writes made through this instance are seen; other instances sharing the database keep
+ * their own copy. Every load runs in a read-write transaction so that it reads the primary, even
+ * when read-only transactions go to a replica: an entry missed on a lagging replica would never be
+ * added later, because the leaderboards are only updated incrementally.
+ *
+ * <p>Writers are serialized with a {@link ReentrantLock} rather than {@code synchronized}, because
+ * {@link #reload()} blocks on JDBC and a virtual thread blocking inside a monitor pins its carrier
+ * thread.
+ */
+@Component
+@Slf4j
+public class LeaderboardCache {
+  static final Sort LEADERBOARD_SORT = Sort.by(Sort.Direction.DESC, "points", "createdAt", "id");
+
+  private static final Sort ID_TIE_BREAK = Sort.by(Sort.Direction.DESC, "id");
+
+  private final ScoreRepository scoreRepository;
+  private final Leaderboard leaderboard;
+  private final Map<LeaderboardWindow, Period> periods = new ConcurrentHashMap<>();
+  private final ReentrantLock writeLock = new ReentrantLock();
+  private final TransactionTemplate transactionTemplate;
+
+  public LeaderboardCache(
+      ScoreRepository scoreRepository,
+      ScoreProperties scoreProperties,
+      PlatformTransactionManager transactionManager) {
+    this.scoreRepository = scoreRepository;
+    this.leaderboard = new Leaderboard(scoreProperties.getLeaderboardSize());
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void warmUp() {
+    try {
+      reload();
+    } catch (DataAccessException e) {
+      log.warn("Could not warm up leaderboard cache, serving from database: {}", e.getMessage());
+    }
+  }
+
+  /** Reloads the all-time top scores from the database; windows are reloaded on next use. */
+  public void reload() {
+    writeLock.lock();
+    try {
+      List<Score> top =
+          transactionTemplate.execute(
+              status ->
+                  scoreRepository
+                      .findSliceBy(PageRequest.of(0, leaderboard.capacity(), LEADERBOARD_SORT))
+                      .getContent());
+      leaderboard.load(top);
+      periods.clear();
+      log.info("Loaded {} scores into leaderboard cache", top.size());
+    } finally {
+      writeLock.unlock();
+    }
+  }
+
+  /**
+   * Returns the page from memory when it is sorted in leaderboard order, with or without the final
+   * id key, and falls within the cached entries of the window.
+   */
+  public Optional<List<Score>> findPage(Pageable pageable, LeaderboardWindow window) {
+    if (!LEADERBOARD_SORT.equals(withIdTieBreak(pageable).getSort())) {
+      return Optional.empty();
+    }
+    Leaderboard current =
+        window == LeaderboardWindow.ALL ? leaderboard : load(window, LocalDateTime.now());
+    return Optional.ofNullable(current.page(pageable.getOffset(), pageable.getPageSize()));
+  }
+
+  /**
+   * Appends id as the last sort key, unless it is already sorted by, so that scores tied on every
+   * requested key still page in one fixed order: the order {@link Leaderboard} keeps for the
+   * leaderboard sort.
+   */
+  static Pageable withIdTieBreak(Pageable pageable) {
+    Sort sort = pageable.getSort();
+    if (sort.getOrderFor("id") != null) {
+      return pageable;
+    }
+    return PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), sort.and(ID_TIE_BREAK));
+  }
+
+  public void add(Score score) {
+    addAll(List.of(score));
+  }
+
+  public void addAll(Collection<Score> scores) {
+    LocalDateTime now = LocalDateTime.now();
+    writeLock.lock();
+    try {
+      for (Score score : scores) {
+        leaderboard.offer(score);
+      }
+      for (Map.Entry<LeaderboardWindow, Period> entry : periods.entrySet()) {
+        Period period = entry.getValue();
+        if (!period.start().equals(entry.getKey().start(now))) {
+          periods.remove(entry.getKey());
+          continue;
+        }
+        for (Score score : scores) {
+          if (!score.getCreatedAt().isBefore(period.start())) {
+            period.leaderboard().offer(score);
+          }
+        }
+      }
+    } finally {
+      writeLock.unlock();
+    }
+  }
+
+  /**
+   * Removes deleted scores, refilling the all-time leaderboard from the database if a leader was
+   * among them. A window that needs refilling is dropped and reloaded on next use.
+   */
+  public void remove(Collection<UUID> ids) {
+    writeLock.lock();
+    try {
+      for (Map.Entry<LeaderboardWindow, Period> entry : periods.entrySet()) {
+        Leaderboard windowLeaderboard = entry.getValue().leaderboard();
+        if (windowLeaderboard.remove(ids) > 0 && windowLeaderboard.needsRefill()) {
+          periods.remove(entry.getKey());
+        }
+      }
+      if (leaderboard.remove(ids) > 0 && leaderboard.needsRefill()) {
+        reload();
+      }
+    } finally {
+      writeLock.unlock();
+    }
+  }
+
+  /** Returns the leaderboard of the window containing {@code now}, loading it if needed. */
+  private Leaderboard load(LeaderboardWindow window, LocalDateTime now) {
+    LocalDateTime start = window.start(now);
+    Period period = periods.get(window);
+    if (period != null && period.start().equals(start)) {
+      return period.leaderboard();
+    }
+
+    writeLock.lock();
+    try {
+      period = periods.get(window);
+      if (period == null || !period.start().equals(start)) {
+        Leaderboard windowLeaderboard = new Leaderboard(leaderboard.capacity());
+        List<Score> top =
+            transactionTemplate.execute(
+                status ->
+                    scoreRepository
+                        .findSliceByCreatedAtGreaterThanEqual(
+                            start, PageRequest.of(0, leaderboard.capacity(), LEADERBOARD_SORT))
+                        .getContent());
+        windowLeaderboard.load(top);
+        period = new Period(start, windowLeaderboard);
+        periods.put(window, period);
+        log.debug("Loaded {} scores since {} into {} leaderboard", top.size(), start, window);
+      }
+      return period.leaderboard();
+    } finally {
+      writeLock.unlock();
+    }
+  }
+
+  /** Leaderboard of one window, replaced as a whole when the window rolls over. */
+  private record Period(LocalDateTime start, Leaderboard leaderboard) {}
+}
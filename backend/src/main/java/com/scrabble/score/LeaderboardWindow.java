@@ -0,0 +1,40 @@
+package com.scrabble.score;
+
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.Locale;
+
+/** Period a leaderboard ranks scores over, in server time. Weeks start on Monday. */
+public enum LeaderboardWindow {
+  ALL,
+  DAY,
+  WEEK,
+  MONTH;
+
+  /**
+   * @param name window name in any case, or {@code null} for {@link #ALL}
+   */
+  public static LeaderboardWindow parse(String name) {
+    if (name == null || name.isBlank()) {
+      return ALL;
+    }
+    try {
+      return valueOf(name.trim().toUpperCase(Locale.ROOT));
+    } catch (IllegalArgumentException e) {
+      throw new IllegalArgumentException(String.format("Unknown leaderboard window: %s.", name));
+    }
+  }
+
+  /** Start of the window containing {@code now}, or {@code null} for {@link #ALL}. */
+  public LocalDateTime start(LocalDateTime now) {
+    LocalDateTime today = now.truncatedTo(ChronoUnit.DAYS);
+    return switch (this) {
+      case ALL -> null;
+      case DAY -> today;
+      case WEEK -> today.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+      case MONTH -> today.withDayOfMonth(1);
+    };
+  }
+}
@@ -0,0 +1,14 @@
+package com.scrabble.score;
+
+import com.scrabble.score.dto.MoveDTO;
+import com.scrabble.score.dto.MoveScoreDTO;
+
+public interface MoveScoringService {
+  /**
+   * Scores a word placed on a board, including premium squares, cross-words and the bingo bonus.
+   *
+   * @param validate whether to reject moves forming words that are not in the dictionary
+   * @param ruleSet name of the rule set giving the letter points, or {@code null} for the default
+   */
+  MoveScoreDTO scoreMove(MoveDTO move, boolean validate, String ruleSet);
+}
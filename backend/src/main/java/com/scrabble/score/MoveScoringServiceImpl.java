@@ -0,0 +1,63 @@
+package com.scrabble.score;
+
+import com.scrabble.board.Board;
+import com.scrabble.board.MoveScorer;
+import com.scrabble.board.MoveScorer.MoveScore;
+import com.scrabble.board.MoveScorer.ScoredWord;
+import com.scrabble.dictionary.DictionaryService;
+import com.scrabble.score.dto.MoveDTO;
+import com.scrabble.score.dto.MoveScoreDTO;
+import com.scrabble.score.dto.WordScoreDTO;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+@Service
+@Slf4j
+public class MoveScoringServiceImpl implements MoveScoringService {
+
+  private final DictionaryService dictionaryService;
+  private final ScoringRulesService scoringRulesService;
+
+  public MoveScoringServiceImpl(
+      DictionaryService dictionaryService, ScoringRulesService scoringRulesService) {
+    this.dictionaryService = dictionaryService;
+    this.scoringRulesService = scoringRulesService;
+  }
+
+  @Override
+  public MoveScoreDTO scoreMove(MoveDTO move, boolean validate, String ruleSet) {
+    ScoringTable scoringTable = scoringRulesService.getScoringTable(ruleSet);
+    int[] letterPoints = new int['Z' - 'A' + 1];
+    for (char letter = 'A'; letter <= 'Z'; letter++) {
+      letterPoints[letter - 'A'] = scoringTable.score(letter);
+    }
+
+    MoveScore moveScore =
+        MoveScorer.score(
+            Board.parse(move.getBoard()),
+            move.getRow(),
+            move.getColumn(),
+            move.getDirection(),
+            move.getWord(),
+            letterPoints);
+
+    List<WordScoreDTO> words = new ArrayList<>(moveScore.words().size());
+    for (ScoredWord word : moveScore.words()) {
+      if (validate && !dictionaryService.isValid(word.word())) {
+        throw new IllegalArgumentException(String.format("'%s' is not a valid word.", word.word()));
+      }
+      words.add(WordScoreDTO.builder().word(word.word()).score(word.score()).build());
+    }
+
+    log.debug("Scored move {} for {} points", move.getWord(), moveScore.score());
+
+    return MoveScoreDTO.builder()
+        .score(moveScore.score())
+        .words(words)
+        .tilesPlaced(moveScore.tilesPlaced())
+        .bingo(moveScore.bingo())
+        .build();
+  }
+}
@@ -0,0 +1,145 @@
+package com.scrabble.score;
+
+import com.scrabble.dictionary.Lexicon;
+import com.scrabble.score.dto.RackWordDTO;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Finds the highest-scoring dictionary words that can be spelled from a rack of tiles.
+ *
+ * <p>The sorted lexicon is walked as a trie: at each depth the words sharing the current prefix
+ * form one contiguous range, split by next letter with binary searches. A branch is only entered
+ * while the rack still holds that letter or a blank, so the search never visits words that cannot
+ * be spelled. Real tiles are used before blanks; since scores do not depend on letter positions
+ * this always yields the best score for each word. The best {@code limit} words are kept in a
+ * bounded min-heap. Words are found in alphabetical order, so once the heap is full a branch is
+ * pruned as soon as even its remaining tiles cannot score above the worst word kept.
+ */
+final class RackSolver {
+  static final char BLANK = '?';
+  static final int MAX_BLANKS = 2;
+
+  /** Best first: higher score, then alphabetical. */
+  static final Comparator<RackWordDTO> ORDER =
+      Comparator.comparing(RackWordDTO::getScore, Comparator.reverseOrder())
+          .thenComparing(RackWordDTO::getWord, String.CASE_INSENSITIVE_ORDER)
+          .thenComparing(RackWordDTO::getWord);
+
+  private final Lexicon lexicon;
+  private final ScoringTable scoringTable;
+  private final int limit;
+  private final int[] counts = new int[26];
+  private final char[] prefix;
+  private final PriorityQueue<RackWordDTO> best;
+  private int blanks;
+  private int remainingValue;
+
+  private RackSolver(Lexicon lexicon, ScoringTable scoringTable, String rack, int limit) {
+    this.lexicon = lexicon;
+    this.scoringTable = scoringTable;
+    this.limit = limit;
+    this.prefix = new char[rack.length()];
+    this.best = new PriorityQueue<>(limit + 1, ORDER.reversed());
+    for (int i = 0; i < rack.length(); i++) {
+      char tile = rack.charAt(i);
+      if (tile == BLANK) {
+        blanks++;
+      } else if ((tile >= 'A' && tile <= 'Z') || (tile >= 'a' && tile <= 'z')) {
+        counts[Character.toUpperCase(tile) - 'A']++;
+        remainingValue += scoringTable.score(tile);
+      } else {
+        throw new IllegalArgumentException(
+            String.format("Rack tiles must be letters or '%s' for a blank.", BLANK));
+      }
+    }
+    if (blanks > MAX_BLANKS) {
+      throw new IllegalArgumentException(
+          String.format("A rack cannot hold more than %d blanks.", MAX_BLANKS));
+    }
+  }
+
+  /** Returns up to {@code limit} words spelled from the rack, best first. */
+  static List<RackWordDTO> solve(
+      Lexicon lexicon, ScoringTable scoringTable, String rack, int limit) {
+    RackSolver solver = new RackSolver(lexicon, scoringTable, rack, limit);
+    solver.walk(0, lexicon.size(), 0, 0);
+
+    List<RackWordDTO> result = new ArrayList<>(solver.best);
+    result.sort(ORDER);
+    return result;
+  }
+
+  /** Visits the words in {@code [from, to)}, which all start with the first {@code depth} tiles. */
+  private void walk(int from, int to, int depth, int score) {
+    if (from < to && lexicon.wordLength(from) == depth) {
+      // Words are unique, so at most one equals the prefix and it sorts first
+      if (depth > 0) {
+        offer(depth, score);
+      }
+      from++;
+    }
+    if (from == to || depth == prefix.length) {
+      return;
+    }
+    // Even playing every remaining tile cannot beat the worst word kept
+    if (best.size() == limit && score + remainingValue <= best.peek().getScore()) {
+      return;
+    }
+
+    if (blanks > 0) {
+      // Any next letter can be played, so visit each one present in the range
+      while (from < to) {
+        int letter = lexicon.letterAt(from, depth);
+        int next = lexicon.lowerBound(from, to, depth, letter + 1);
+        play(letter, from, next, depth, score);
+        from = next;
+      }
+    } else {
+      // Only the letters left on the rack can be played, so search for those alone
+      for (int index = 0; index < counts.length && from < to; index++) {
+        if (counts[index] > 0) {
+          int letter = 'A' + index;
+          int start = lexicon.lowerBound(from, to, depth, letter);
+          int next = lexicon.lowerBound(start, to, depth, letter + 1);
+          if (start < next) {
+            play(letter, start, next, depth, score);
+          }
+          from = next;
+        }
+      }
+    }
+  }
+
+  /** Places {@code letter} at {@code depth}, from a real tile if one is left, else from a blank. */
+  private void play(int letter, int from, int to, int depth, int score) {
+    int index = letter - 'A';
+    if (counts[index] > 0) {
+      int points = scoringTable.score((char) letter);
+      counts[index]--;
+      remainingValue -= points;
+      prefix[depth] = (char) letter;
+      walk(from, to, depth + 1, score + points);
+      remainingValue += points;
+      counts[index]++;
+    } else if (blanks > 0) {
+      blanks--;
+      prefix[depth] = Character.toLowerCase((char) letter);
+      walk(from, to, depth + 1, score);
+      blanks++;
+    }
+  }
+
+  private void offer(int length, int score) {
+    // Words are found in alphabetical order, so a tie with the worst word kept ranks after it
+    if (best.size() == limit && score <= best.peek().getScore()) {
+      return;
+    }
+    best.add(RackWordDTO.builder().word(new String(prefix, 0, length)).score(score).build());
+    if (best.size() > limit) {
+      best.poll();
+    }
+  }
+}
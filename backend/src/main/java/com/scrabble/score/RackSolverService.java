@@ -0,0 +1,14 @@
+package com.scrabble.score;
+
+import com.scrabble.score.dto.RackWordDTO;
+import java.util.List;
+
+public interface RackSolverService {
+  /**
+   * Returns the highest-scoring dictionary words that can be spelled from the rack, best first.
+   *
+   * @param rack tiles as letters, with {@code ?} for a blank
+   * @param limit maximum number of words to return
+   */
+  List<RackWordDTO> findBestWords(String rack, int limit);
+}
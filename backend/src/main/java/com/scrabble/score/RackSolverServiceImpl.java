@@ -0,0 +1,38 @@
+package com.scrabble.score;
+
+import com.scrabble.dictionary.DictionaryService;
+import com.scrabble.score.dto.RackWordDTO;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+@Service
+@Slf4j
+public class RackSolverServiceImpl implements RackSolverService {
+  static final int MAX_LIMIT = 50;
+
+  private final DictionaryService dictionaryService;
+  private final ScoringRulesService scoringRulesService;
+
+  public RackSolverServiceImpl(
+      DictionaryService dictionaryService, ScoringRulesService scoringRulesService) {
+    this.dictionaryService = dictionaryService;
+    this.scoringRulesService = scoringRulesService;
+  }
+
+  @Override
+  public List<RackWordDTO> findBestWords(String rack, int limit) {
+    if (limit < 1 || limit > MAX_LIMIT) {
+      throw new IllegalArgumentException(
+          String.format("Limit must be between 1 and %d.", MAX_LIMIT));
+    }
+
+    List<RackWordDTO> words =
+        RackSolver.solve(
+            dictionaryService.getLexicon(), scoringRulesService.getScoringTable(), rack, limit);
+
+    log.debug("Found {} words for rack: {}", words.size(), rack);
+
+    return words;
+  }
+}
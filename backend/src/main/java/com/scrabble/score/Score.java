@@ -5,6 +5,7 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import java.time.LocalDateTime;
 import java.util.UUID;
@@ -15,7 +16,12 @@ import lombok.NoArgsConstructor;
 import org.hibernate.annotations.CreationTimestamp;
 
 @Entity
-@Table(name = "scores")
+@Table(
+    name = "scores",
+    indexes =
+        @Index(
+            name = "idx_scores_leaderboard",
+            columnList = "points DESC, created_at DESC, id DESC"))
 @Data
 @Builder
 @NoArgsConstructor
@@ -1,23 +1,39 @@
 package com.scrabble.score;
 
+import com.scrabble.score.dto.MoveDTO;
+import com.scrabble.score.dto.MoveScoreDTO;
+import com.scrabble.score.dto.RackWordDTO;
+import com.scrabble.score.dto.ScoreBatchComputeDTO;
+import com.scrabble.score.dto.ScoreBatchCreateDTO;
 import com.scrabble.score.dto.ScoreComputeDTO;
 import com.scrabble.score.dto.ScoreCreateDTO;
 import com.scrabble.score.dto.ScoreDTO;
+import com.scrabble.score.dto.ScoreDeleteDTO;
+import com.scrabble.score.dto.ScoreRankDTO;
 import com.scrabble.score.dto.ScoringRuleDTO;
 import com.scrabble.score.dto.TopScoreDTO;
+import com.scrabble.score.dto.TopScorePageDTO;
+import com.scrabble.score.dto.WordScorePageDTO;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
-import org.springframework.http.HttpStatus;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
-import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -31,18 +47,98 @@ public class ScoreController {
   }
 
   @GetMapping("/rules")
-  public List<ScoringRuleDTO> getScoringRules() {
-    return scoreService.getScoringRules();
+  public List<ScoringRuleDTO> getScoringRules(@RequestParam(required = false) String ruleSet) {
+    return scoreService.getScoringRules(ruleSet);
+  }
+
+  @GetMapping("/rule-sets")
+  public List<String> getRuleSets() {
+    return scoreService.getRuleSets();
+  }
+
+  @PostMapping("/rule-sets:reload")
+  public List<String> reloadRuleSets() {
+    return scoreService.reloadRuleSets();
   }
 
   @PostMapping("/compute")
-  public ScoreComputeDTO computeScore(@Valid @RequestBody ScoreCreateDTO request) {
-    return scoreService.computeScore(request);
+  public ScoreComputeDTO computeScore(
+      @Valid @RequestBody ScoreCreateDTO request,
+      @RequestParam(defaultValue = "false") boolean validate,
+      @RequestParam(required = false) String ruleSet) {
+    return scoreService.computeScore(request, validate, ruleSet);
+  }
+
+  @PostMapping("/compute:batch")
+  public ScoreBatchComputeDTO computeScores(
+      @Valid @RequestBody ScoreBatchCreateDTO request,
+      @RequestParam(required = false) String ruleSet) {
+    return scoreService.computeScores(request, ruleSet);
+  }
+
+  @PostMapping(
+      value = "/compute:stream",
+      consumes = MediaType.TEXT_PLAIN_VALUE,
+      produces = MediaType.TEXT_PLAIN_VALUE)
+  public void computeScoresAsText(
+      InputStream body,
+      @RequestParam(required = false) String ruleSet,
+      HttpServletResponse response)
+      throws IOException {
+    response.setContentType(MediaType.TEXT_PLAIN_VALUE);
+    response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+    scoreService.computeScoresAsText(body, response.getOutputStream(), ruleSet);
+  }
+
+  @PostMapping(
+      value = "/compute:stream",
+      consumes = MediaType.APPLICATION_NDJSON_VALUE,
+      produces = MediaType.APPLICATION_NDJSON_VALUE)
+  public void computeScoresAsNdjson(
+      InputStream body,
+      @RequestParam(required = false) String ruleSet,
+      HttpServletResponse response)
+      throws IOException {
+    response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+    scoreService.computeScoresAsNdjson(body, response.getOutputStream(), ruleSet);
+  }
+
+  @PostMapping("/compute:move")
+  public MoveScoreDTO computeMoveScore(
+      @Valid @RequestBody MoveDTO move,
+      @RequestParam(defaultValue = "false") boolean validate,
+      @RequestParam(required = false) String ruleSet) {
+    return scoreService.computeMoveScore(move, validate, ruleSet);
+  }
+
+  @PostMapping("/solve")
+  public List<RackWordDTO> findBestWords(
+      @Valid @RequestBody ScoreCreateDTO request,
+      @RequestParam(defaultValue = "10") int limit) {
+    return scoreService.findBestWords(request, limit);
+  }
+
+  @GetMapping("/words")
+  public WordScorePageDTO findWords(
+      @RequestParam(required = false) Integer minScore,
+      @RequestParam(required = false) Integer maxScore,
+      @RequestParam(required = false) Integer minLength,
+      @RequestParam(required = false) Integer maxLength,
+      @RequestParam(defaultValue = "0") int page,
+      @RequestParam(defaultValue = "20") int size) {
+    return scoreService.findWords(minScore, maxScore, minLength, maxLength, page, size);
   }
 
   @PostMapping
-  public ScoreDTO create(@Valid @RequestBody ScoreCreateDTO request) {
-    return scoreService.create(request);
+  public ScoreDTO create(
+      @Valid @RequestBody ScoreCreateDTO request,
+      @RequestParam(defaultValue = "false") boolean validate) {
+    return scoreService.create(request, validate);
+  }
+
+  @PostMapping("/batch")
+  public List<ScoreDTO> createAll(@Valid @RequestBody ScoreBatchCreateDTO request) {
+    return scoreService.createAll(request);
   }
 
   @GetMapping
@@ -51,13 +147,38 @@ public class ScoreController {
               size = 10,
               sort = {"points", "createdAt"},
               direction = Sort.Direction.DESC)
-          Pageable pageable) {
-    return scoreService.findTopScores(pageable);
+          Pageable pageable,
+      @RequestParam(required = false) String window) {
+    return scoreService.findTopScores(pageable, window);
+  }
+
+  @GetMapping("/leaderboard")
+  public TopScorePageDTO getLeaderboard(
+      @RequestParam(required = false) String cursor,
+      @RequestParam(defaultValue = "10") int size) {
+    return scoreService.findTopScores(cursor, size);
+  }
+
+  @GetMapping("/rank")
+  public ScoreRankDTO getRankOfPoints(@RequestParam int points) {
+    return scoreService.findRank(points);
+  }
+
+  @GetMapping("/{id}/rank")
+  public ScoreRankDTO getRank(@PathVariable UUID id) {
+    return scoreService.findRank(id);
   }
 
   @DeleteMapping
-  @ResponseStatus(HttpStatus.NO_CONTENT)
-  public void deleteScores(@RequestBody List<UUID> ids) {
-    scoreService.deleteByIds(ids);
+  public ScoreDeleteDTO deleteScores(@RequestBody List<UUID> ids) {
+    return scoreService.deleteByIds(ids);
+  }
+
+  @DeleteMapping("/purge")
+  public ScoreDeleteDTO purgeScores(
+      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+          LocalDateTime createdBefore,
+      @RequestParam(required = false) Integer pointsBelow) {
+    return scoreService.purge(createdBefore, pointsBelow);
   }
 }
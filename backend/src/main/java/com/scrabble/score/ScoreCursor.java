@@ -0,0 +1,48 @@
+package com.scrabble.score;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Position of the last score on a leaderboard page, handed to clients as an opaque string.
+ *
+ * <p>It carries the sort key of that score (points, creation time, id) so the next page is a keyset
+ * seek, and its global rank so ranks on following pages continue from it without a count query.
+ * That rank is not recomputed. Scores created or deleted above the cursor while a client pages
+ * shift the true ranks of later pages, so the ranks are approximate after the first page.
+ * Pagination itself never skips or repeats a score, because the seek uses the sort key.
+ */
+record ScoreCursor(int points, LocalDateTime createdAt, UUID id, long rank) {
+  private static final String SEPARATOR = "|";
+
+  static ScoreCursor after(Score score, long rank) {
+    return new ScoreCursor(score.getPoints(), score.getCreatedAt(), score.getId(), rank);
+  }
+
+  String encode() {
+    String value = points + SEPARATOR + createdAt + SEPARATOR + id + SEPARATOR + rank;
+    return Base64.getUrlEncoder()
+        .withoutPadding()
+        .encodeToString(value.getBytes(StandardCharsets.UTF_8));
+  }
+
+  static ScoreCursor decode(String cursor) {
+    try {
+      String value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+      String[] parts = value.split("\\|", -1);
+      if (parts.length != 4) {
+        throw new IllegalArgumentException("Invalid cursor.");
+      }
+      return new ScoreCursor(
+          Integer.parseInt(parts[0]),
+          LocalDateTime.parse(parts[1]),
+          UUID.fromString(parts[2]),
+          Long.parseLong(parts[3]));
+    } catch (IllegalArgumentException | DateTimeParseException e) {
+      throw new IllegalArgumentException("Invalid cursor.", e);
+    }
+  }
+}
@@ -0,0 +1,69 @@
+package com.scrabble.score;
+
+import java.util.Arrays;
+
+/**
+ * Number of scores per point value, kept in a Fenwick (binary indexed) tree so that counting the
+ * scores above a value is a prefix sum in O(log P) over P point values, and so is an update.
+ *
+ * <p>Points are small bounded integers (at most 10 letters of a few points each), so the tree
+ * starts with room for 128 values and grows when a higher score arrives. Not synchronized; the
+ * owner must serialize writers against readers.
+ */
+final class ScoreHistogram {
+  private static final int INITIAL_SIZE = 128;
+
+  private long[] counts = new long[INITIAL_SIZE];
+  private long[] tree = new long[INITIAL_SIZE + 1];
+  private long total;
+
+  /** Adds {@code delta} scores of {@code points}; a negative delta removes them. */
+  void add(int points, long delta) {
+    if (points < 0) {
+      throw new IllegalArgumentException("Points must not be negative.");
+    }
+    if (points >= counts.length) {
+      grow(points);
+    }
+    counts[points] += delta;
+    total += delta;
+    for (int i = points + 1; i < tree.length; i += i & -i) {
+      tree[i] += delta;
+    }
+  }
+
+  long total() {
+    return total;
+  }
+
+  /** Number of scores with more than {@code points}. */
+  long countAbove(int points) {
+    return total - countAtMost(points);
+  }
+
+  /** Number of scores with at most {@code points}. */
+  long countAtMost(int points) {
+    if (points < 0) {
+      return 0;
+    }
+    long count = 0;
+    for (int i = Math.min(points, counts.length - 1) + 1; i > 0; i -= i & -i) {
+      count += tree[i];
+    }
+    return count;
+  }
+
+  /** Resizes to hold {@code points}, at least doubling, and rebuilds the tree in O(P). */
+  private void grow(int points) {
+    int size = Math.max(points + 1, counts.length * 2);
+    counts = Arrays.copyOf(counts, size);
+    tree = new long[size + 1];
+    for (int i = 1; i <= size; i++) {
+      tree[i] += counts[i - 1];
+      int parent = i + (i & -i);
+      if (parent <= size) {
+        tree[parent] += tree[i];
+      }
+    }
+  }
+}
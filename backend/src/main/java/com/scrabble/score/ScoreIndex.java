@@ -0,0 +1,158 @@
+package com.scrabble.score;
+
+import com.scrabble.dictionary.Lexicon;
+import java.util.Arrays;
+
+/**
+ * Immutable index of every lexicon word by score and length, answering range queries without
+ * scanning the lexicon.
+ *
+ * <p>Word indices are counting-sorted into buckets keyed by (score descending, length ascending),
+ * with words in alphabetical order inside a bucket. For one score, the buckets of all lengths are
+ * adjacent, so a query reads one contiguous slice of {@code order} per score in range. Everything
+ * is held in primitive arrays, about 12 bytes per word.
+ *
+ * <p>Each word's set of letters is kept as a bit mask, so {@link #rescore(ScoringTable)} only
+ * recomputes the words containing a letter whose points changed.
+ */
+final class ScoreIndex {
+  private final Lexicon lexicon;
+  private final ScoringTable scoringTable;
+  private final int[] scores;
+  private final int[] letterMasks;
+  private final int maxLength;
+  private final int maxScore;
+  private final int[] order;
+  private final int[] bucketStart;
+
+  private ScoreIndex(
+      Lexicon lexicon, ScoringTable scoringTable, int[] scores, int[] letterMasks, int maxLength) {
+    this.lexicon = lexicon;
+    this.scoringTable = scoringTable;
+    this.scores = scores;
+    this.letterMasks = letterMasks;
+    this.maxLength = maxLength;
+    this.maxScore = Arrays.stream(scores).max().orElse(0);
+
+    int[] counts = new int[(maxScore + 1) * (maxLength + 1) + 1];
+    for (int word = 0; word < scores.length; word++) {
+      counts[bucket(scores[word], lexicon.wordLength(word)) + 1]++;
+    }
+    for (int key = 1; key < counts.length; key++) {
+      counts[key] += counts[key - 1];
+    }
+    this.bucketStart = counts.clone();
+    this.order = new int[scores.length];
+    for (int word = 0; word < scores.length; word++) {
+      order[counts[bucket(scores[word], lexicon.wordLength(word))]++] = word;
+    }
+  }
+
+  static ScoreIndex build(Lexicon lexicon, ScoringTable scoringTable) {
+    int size = lexicon.size();
+    int[] scores = new int[size];
+    int[] letterMasks = new int[size];
+    int maxLength = 0;
+    for (int word = 0; word < size; word++) {
+      int length = lexicon.wordLength(word);
+      int mask = 0;
+      for (int depth = 0; depth < length; depth++) {
+        mask |= 1 << (lexicon.letterAt(word, depth) - 'A');
+      }
+      letterMasks[word] = mask;
+      scores[word] = score(lexicon, scoringTable, word);
+      maxLength = Math.max(maxLength, length);
+    }
+    return new ScoreIndex(lexicon, scoringTable, scores, letterMasks, maxLength);
+  }
+
+  /** Returns an index for new rules, rescoring only the words affected by the change. */
+  ScoreIndex rescore(ScoringTable newScoringTable) {
+    int changed = scoringTable.changedLetters(newScoringTable);
+    if (changed == 0) {
+      return new ScoreIndex(lexicon, newScoringTable, scores, letterMasks, maxLength);
+    }
+    int[] newScores = scores.clone();
+    for (int word = 0; word < newScores.length; word++) {
+      if ((letterMasks[word] & changed) != 0) {
+        newScores[word] = score(lexicon, newScoringTable, word);
+      }
+    }
+    return new ScoreIndex(lexicon, newScoringTable, newScores, letterMasks, maxLength);
+  }
+
+  Lexicon lexicon() {
+    return lexicon;
+  }
+
+  ScoringTable scoringTable() {
+    return scoringTable;
+  }
+
+  int score(int word) {
+    return scores[word];
+  }
+
+  /** Counts the words with a score and length within the given inclusive bounds. */
+  int count(int minScore, int maxScore, int minLength, int maxLength) {
+    int count = 0;
+    for (int score = upperScore(maxScore); score >= lowerScore(minScore); score--) {
+      int[] range = range(score, minLength, maxLength);
+      count += range[1] - range[0];
+    }
+    return count;
+  }
+
+  /**
+   * Returns the indices of matching words, by score descending, then length, then alphabetically,
+   * skipping the first {@code offset} matches.
+   */
+  int[] find(int minScore, int maxScore, int minLength, int maxLength, int offset, int limit) {
+    int[] result = new int[limit];
+    int found = 0;
+    int skip = offset;
+    int lowest = lowerScore(minScore);
+    for (int score = upperScore(maxScore); score >= lowest && found < limit; score--) {
+      int[] range = range(score, minLength, maxLength);
+      int from = range[0] + Math.min(skip, range[1] - range[0]);
+      skip -= from - range[0];
+      int take = Math.min(range[1] - from, limit - found);
+      System.arraycopy(order, from, result, found, take);
+      found += take;
+    }
+    return Arrays.copyOf(result, found);
+  }
+
+  /** Returns the {@code [from, to)} slice of {@code order} for one score and a length range. */
+  private int[] range(int score, int minLength, int maxLength) {
+    int from = Math.max(minLength, 0);
+    int to = Math.min(maxLength, this.maxLength);
+    if (from > to) {
+      return new int[] {0, 0};
+    }
+    return new int[] {bucketStart[bucket(score, from)], bucketStart[bucket(score, to) + 1]};
+  }
+
+  private int upperScore(int maxScore) {
+    return Math.min(maxScore, this.maxScore);
+  }
+
+  private static int lowerScore(int minScore) {
+    return Math.max(minScore, 0);
+  }
+
+  private int bucket(int score, int length) {
+    return (maxScore - score) * (maxLength + 1) + length;
+  }
+
+  private static int score(Lexicon lexicon, ScoringTable scoringTable, int word) {
+    if (!scoringTable.isPerLetter()) {
+      return scoringTable.score(lexicon.word(word));
+    }
+    int total = 0;
+    for (int depth = 0, length = lexicon.wordLength(word); depth < length; depth++) {
+      total += scoringTable.score((char) lexicon.letterAt(word, depth));
+    }
+    return total;
+  }
+}
@@ -0,0 +1,38 @@
+package com.scrabble.score;
+
+import com.scrabble.score.dto.ScoreDTO;
+import com.scrabble.score.dto.TopScoreDTO;
+import java.util.ArrayList;
+import java.util.List;
+
+final class ScoreMapper {
+
+  private ScoreMapper() {}
+
+  static ScoreDTO toScoreDTO(Score score) {
+    return ScoreDTO.builder()
+        .id(score.getId())
+        .letters(score.getLetters())
+        .points(score.getPoints())
+        .createdAt(score.getCreatedAt())
+        .build();
+  }
+
+  static TopScoreDTO toTopScoreDTO(Score score, int rank) {
+    return TopScoreDTO.builder()
+        .id(score.getId())
+        .rank(rank)
+        .score(score.getPoints())
+        .letters(score.getLetters())
+        .createdAt(score.getCreatedAt())
+        .build();
+  }
+
+  static List<TopScoreDTO> toTopScoreDTOs(List<Score> scores, int firstRank) {
+    List<TopScoreDTO> result = new ArrayList<>(scores.size());
+    for (int i = 0; i < scores.size(); i++) {
+      result.add(toTopScoreDTO(scores.get(i), firstRank + i));
+    }
+    return result;
+  }
+}
@@ -0,0 +1,252 @@
+package com.scrabble.score;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Maintains the monthly partitions of the PostgreSQL {@code scores} table created by the Flyway
+ * migrations. Partitions for the coming months are created ahead of the first write. Partitions
+ * older than the retention period are detached, a catalog change rather than a row-by-row delete,
+ * then moved to the archive schema or dropped.
+ *
+ * <p>Rows written while their month had no partition land in {@code scores_default}, for example
+ * after missed runs. PostgreSQL refuses to create a partition whose range the default partition
+ * holds rows for, so those rows are moved into the new partition as it is created. Expired rows in
+ * the default partition are archived into a table per month, or deleted, like expired partitions.
+ *
+ * <p>Runs at startup and on {@code scrabble.score.partitions.cron}. A transaction-scoped advisory
+ * lock keeps several instances from running it at the same time.
+ */
+@Component
+@ConditionalOnProperty(prefix = "scrabble.score.partitions", name = "enabled", havingValue = "true")
+@Slf4j
+public class ScorePartitionJob {
+  static final String PARTITION_PREFIX = "scores_p";
+  static final String DEFAULT_PARTITION = "scores_default";
+  static final long LOCK_KEY = 0x73636f726573L;
+  static final String LOCK_SQL = "SELECT pg_try_advisory_xact_lock(?)";
+  static final String PARTITIONS_SQL =
+      "SELECT c.relname FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid"
+          + " WHERE i.inhparent = 'scores'::regclass";
+  static final String CREATE_PARTITION_SQL =
+      "CREATE TABLE %s PARTITION OF scores FOR VALUES FROM ('%s') TO ('%s')";
+  static final String DEFAULT_HAS_ROWS_SQL =
+      "SELECT EXISTS (SELECT 1 FROM scores_default WHERE created_at >= ? AND created_at < ?)";
+  static final String MOVE_DEFAULT_ROWS_SQL =
+      "WITH moved AS (DELETE FROM scores_default WHERE created_at >= ? AND created_at < ?"
+          + " RETURNING id, letters, points, created_at)"
+          + " INSERT INTO %s (id, letters, points, created_at)"
+          + " SELECT id, letters, points, created_at FROM moved";
+  static final String EXPIRED_DEFAULT_MONTHS_SQL =
+      "SELECT DISTINCT date_trunc('month', created_at) FROM scores_default WHERE created_at < ?";
+  static final String DELETE_EXPIRED_DEFAULT_SQL =
+      "DELETE FROM scores_default WHERE created_at < ?";
+
+  private static final DateTimeFormatter SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+
+  private final JdbcTemplate jdbcTemplate;
+  private final TransactionTemplate transactionTemplate;
+  private final ScoreProperties.Partitions partitions;
+  private final LeaderboardCache leaderboardCache;
+  private final ScoreRankTracker scoreRankTracker;
+
+  public ScorePartitionJob(
+      JdbcTemplate jdbcTemplate,
+      PlatformTransactionManager transactionManager,
+      ScoreProperties scoreProperties,
+      LeaderboardCache leaderboardCache,
+      ScoreRankTracker scoreRankTracker) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.partitions = scoreProperties.getPartitions();
+    this.leaderboardCache = leaderboardCache;
+    this.scoreRankTracker = scoreRankTracker;
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void onStartup() {
+    try {
+      run();
+    } catch (DataAccessException e) {
+      log.warn("Could not maintain score partitions at startup: {}", e.getMessage());
+    }
+  }
+
+  @Scheduled(cron = "${scrabble.score.partitions.cron:0 0 3 * * *}")
+  public void run() {
+    maintain(YearMonth.now());
+  }
+
+  void maintain(YearMonth current) {
+    Boolean retired =
+        transactionTemplate.execute(
+            status -> {
+              if (!Boolean.TRUE.equals(
+                  jdbcTemplate.queryForObject(LOCK_SQL, Boolean.class, LOCK_KEY))) {
+                log.info("Score partitions are being maintained by another instance");
+                return false;
+              }
+
+              List<String> children = jdbcTemplate.queryForList(PARTITIONS_SQL, String.class);
+              boolean hasDefault = children.contains(DEFAULT_PARTITION);
+              Set<YearMonth> existing = months(children);
+              for (YearMonth month : missing(existing, current, partitions.getMonthsAhead())) {
+                create(month, hasDefault);
+              }
+
+              List<YearMonth> expired =
+                  expired(existing, current, partitions.getRetentionMonths());
+              for (YearMonth month : expired) {
+                retire(partitionName(month));
+              }
+              int retiredRows = hasDefault ? retireDefaultRows(current) : 0;
+              return !expired.isEmpty() || retiredRows > 0;
+            });
+
+    if (Boolean.TRUE.equals(retired)) {
+      leaderboardCache.reload();
+      scoreRankTracker.reload();
+    }
+  }
+
+  private static Set<YearMonth> months(List<String> partitionNames) {
+    Set<YearMonth> months = new TreeSet<>();
+    for (String name : partitionNames) {
+      if (name.startsWith(PARTITION_PREFIX) && name.length() == PARTITION_PREFIX.length() + 6) {
+        months.add(YearMonth.parse(name.substring(PARTITION_PREFIX.length()), SUFFIX));
+      }
+    }
+    return months;
+  }
+
+  private void create(YearMonth month, boolean hasDefault) {
+    String partition = partitionName(month);
+    LocalDateTime start = start(month);
+    LocalDateTime end = start(month.plusMonths(1));
+    String create =
+        String.format(CREATE_PARTITION_SQL, partition, start.toLocalDate(), end.toLocalDate());
+    if (!hasDefault
+        || !Boolean.TRUE.equals(
+            jdbcTemplate.queryForObject(DEFAULT_HAS_ROWS_SQL, Boolean.class, start, end))) {
+      jdbcTemplate.execute(create);
+      log.info("Created score partition {}", partition);
+      return;
+    }
+
+    // Detaching the default partition lets the new one be created, and concurrent writes wait on
+    // the table lock until it is attached again
+    jdbcTemplate.execute("ALTER TABLE scores DETACH PARTITION " + DEFAULT_PARTITION);
+    jdbcTemplate.execute(create);
+    int moved = jdbcTemplate.update(String.format(MOVE_DEFAULT_ROWS_SQL, partition), start, end);
+    jdbcTemplate.execute("ALTER TABLE scores ATTACH PARTITION " + DEFAULT_PARTITION + " DEFAULT");
+    log.info(
+        "Created score partition {} with {} rows moved from {}",
+        partition,
+        moved,
+        DEFAULT_PARTITION);
+  }
+
+  private void retire(String partition) {
+    jdbcTemplate.execute("ALTER TABLE scores DETACH PARTITION " + partition);
+    String archiveSchema = partitions.getArchiveSchema();
+    if (archiveSchema == null || archiveSchema.isBlank()) {
+      jdbcTemplate.execute("DROP TABLE " + partition);
+      log.info("Dropped score partition {}", partition);
+    } else {
+      String schema = quote(archiveSchema);
+      jdbcTemplate.execute("CREATE SCHEMA IF NOT EXISTS " + schema);
+      jdbcTemplate.execute("ALTER TABLE " + partition + " SET SCHEMA " + schema);
+      log.info("Archived score partition {} to schema {}", partition, archiveSchema);
+    }
+  }
+
+  /**
+   * Archives or deletes the rows in the default partition from before the retention period.
+   *
+   * @return the number of rows retired
+   */
+  private int retireDefaultRows(YearMonth current) {
+    if (partitions.getRetentionMonths() <= 0) {
+      return 0;
+    }
+    LocalDateTime cutoff = start(current.minusMonths(partitions.getRetentionMonths() - 1L));
+    String archiveSchema = partitions.getArchiveSchema();
+    if (archiveSchema == null || archiveSchema.isBlank()) {
+      int deleted = jdbcTemplate.update(DELETE_EXPIRED_DEFAULT_SQL, cutoff);
+      if (deleted > 0) {
+        log.info("Deleted {} expired scores from {}", deleted, DEFAULT_PARTITION);
+      }
+      return deleted;
+    }
+
+    String schema = quote(archiveSchema);
+    int archived = 0;
+    for (LocalDateTime monthStart :
+        jdbcTemplate.queryForList(EXPIRED_DEFAULT_MONTHS_SQL, LocalDateTime.class, cutoff)) {
+      YearMonth month = YearMonth.from(monthStart);
+      // Rows of the same month as an archived partition go into the same table
+      String table = schema + "." + partitionName(month);
+      jdbcTemplate.execute("CREATE SCHEMA IF NOT EXISTS " + schema);
+      jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + table + " (LIKE scores)");
+      int moved =
+          jdbcTemplate.update(
+              String.format(MOVE_DEFAULT_ROWS_SQL, table),
+              start(month),
+              start(month.plusMonths(1)));
+      log.info("Archived {} expired scores from {} to {}", moved, DEFAULT_PARTITION, table);
+      archived += moved;
+    }
+    return archived;
+  }
+
+  private static LocalDateTime start(YearMonth month) {
+    return month.atDay(1).atStartOfDay();
+  }
+
+  private static String quote(String identifier) {
+    return '"' + identifier.replace("\"", "\"\"") + '"';
+  }
+
+  static String partitionName(YearMonth month) {
+    return PARTITION_PREFIX + SUFFIX.format(month);
+  }
+
+  /** The months from {@code current} to {@code monthsAhead} after it that have no partition. */
+  static List<YearMonth> missing(Set<YearMonth> existing, YearMonth current, int monthsAhead) {
+    List<YearMonth> missing = new ArrayList<>();
+    for (int i = 0; i <= monthsAhead; i++) {
+      YearMonth month = current.plusMonths(i);
+      if (!existing.contains(month)) {
+        missing.add(month);
+      }
+    }
+    return missing;
+  }
+
+  /**
+   * The partitioned months before the last {@code retentionMonths}, counting the current one, in
+   * ascending order. Nothing expires when {@code retentionMonths} is not positive.
+   */
+  static List<YearMonth> expired(Set<YearMonth> existing, YearMonth current, int retentionMonths) {
+    if (retentionMonths <= 0) {
+      return List.of();
+    }
+    YearMonth oldestKept = current.minusMonths(retentionMonths - 1L);
+    return existing.stream().filter(month -> month.isBefore(oldestKept)).sorted().toList();
+  }
+}
@@ -0,0 +1,48 @@
+package com.scrabble.score;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "scrabble.score")
+public class ScoreProperties {
+  /** Rows per JDBC batch when inserting scores in bulk, and per transaction when deleting. */
+  private int batchSize = 500;
+
+  /** Number of top scores held in memory to answer leaderboard pages without a query. */
+  private int leaderboardSize = 100;
+
+  /**
+   * JSON file of named scoring rule sets, re-read on reload. When unset, the rule sets bundled as
+   * {@code scoring-rules.json} are used. The built-in {@code en} set is always available unless the
+   * file defines its own.
+   */
+  private String rulesPath;
+
+  private Partitions partitions = new Partitions();
+
+  /** Monthly partitions of the PostgreSQL {@code scores} table, see {@link ScorePartitionJob}. */
+  @Data
+  public static class Partitions {
+    /** Whether partitions are created and retired on a schedule. Needs the Flyway schema. */
+    private boolean enabled;
+
+    /** Cron expression of the maintenance run, which also runs at startup. */
+    private String cron = "0 0 3 * * *";
+
+    /** Months of partitions kept ready after the current one. */
+    private int monthsAhead = 3;
+
+    /**
+     * Months of scores kept, counting the current one. Older partitions are detached. 0 keeps
+     * everything.
+     */
+    private int retentionMonths;
+
+    /**
+     * Schema detached partitions are moved to, where they can be dumped or queried. When blank they
+     * are dropped.
+     */
+    private String archiveSchema = "archive";
+  }
+}
@@ -0,0 +1,153 @@
+package com.scrabble.score;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Answers "how many scores beat this one" from an in-process {@link ScoreHistogram} of all saved
+ * scores, instead of counting rows. Loaded at startup from one {@code GROUP BY points} query and
+ * kept current by {@link ScoreService} on create and delete.
+ *
+ * <p>Like {@link LeaderboardCache}, only writes made through this instance are seen. Until it is
+ * loaded, {@link #rank(int)} returns nothing and callers count in the database instead.
+ *
+ * <p>A write reports its change through a {@link Write} opened before it touches the table and
+ * closed after it has returned. A reload reads the table only while no write is open, so each write
+ * is either already in the rows it reads or counted in afterwards, never both or neither.
+ */
+@Component
+@Slf4j
+public class ScoreRankTracker {
+  private final ScoreRepository scoreRepository;
+  private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+  private final ReentrantReadWriteLock writes = new ReentrantReadWriteLock();
+  private final TransactionTemplate transactionTemplate;
+  private ScoreHistogram histogram;
+
+  public ScoreRankTracker(
+      ScoreRepository scoreRepository, PlatformTransactionManager transactionManager) {
+    this.scoreRepository = scoreRepository;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void warmUp() {
+    try {
+      reload();
+    } catch (DataAccessException e) {
+      log.warn("Could not load score ranks, counting in database: {}", e.getMessage());
+    }
+  }
+
+  /**
+   * Rebuilds the histogram from the database. The query runs in a read-write transaction so that
+   * it reads the primary, even when read-only transactions go to a replica, and also when called
+   * from {@link #warmUp()} where a {@code @Transactional} proxy would be bypassed.
+   *
+   * <p>Waits for open writes to close, and holds off new ones until the new histogram is in place.
+   * Must not be called while the calling thread has a write open.
+   */
+  public void reload() {
+    writes.writeLock().lock();
+    try {
+      List<ScoreRepository.PointsCount> counts =
+          transactionTemplate.execute(status -> scoreRepository.countByPoints());
+      ScoreHistogram loaded = new ScoreHistogram();
+      for (ScoreRepository.PointsCount pointsCount : counts) {
+        loaded.add(pointsCount.getPoints(), pointsCount.getCount());
+      }
+      lock.writeLock().lock();
+      try {
+        histogram = loaded;
+      } finally {
+        lock.writeLock().unlock();
+      }
+      log.info("Loaded {} scores into rank histogram", loaded.total());
+    } finally {
+      writes.writeLock().unlock();
+    }
+  }
+
+  /**
+   * Opens a write to the scores table. Writes do not wait for each other, only for a reload that is
+   * reading the table.
+   */
+  public Write beginWrite() {
+    writes.readLock().lock();
+    return new Write();
+  }
+
+  /** Returns the number of scores above {@code points} and in total, unless not loaded. */
+  public Optional<Rank> rank(int points) {
+    lock.readLock().lock();
+    try {
+      return histogram == null
+          ? Optional.empty()
+          : Optional.of(new Rank(histogram.countAbove(points), histogram.total()));
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * A write to the scores table in progress. Report what it changed once it has returned, then
+   * close it, even if it failed; a reload waits until then.
+   */
+  public final class Write implements AutoCloseable {
+    private boolean closed;
+
+    private Write() {}
+
+    public void added(Collection<Score> scores) {
+      lock.writeLock().lock();
+      try {
+        if (histogram != null) {
+          for (Score score : scores) {
+            histogram.add(score.getPoints(), 1);
+          }
+        }
+      } finally {
+        lock.writeLock().unlock();
+      }
+    }
+
+    /**
+     * @param points points of the deleted scores, one entry per score
+     */
+    public void removed(Collection<Integer> points) {
+      lock.writeLock().lock();
+      try {
+        if (histogram != null) {
+          for (int value : points) {
+            histogram.add(value, -1);
+          }
+        }
+      } finally {
+        lock.writeLock().unlock();
+      }
+    }
+
+    @Override
+    public void close() {
+      if (!closed) {
+        closed = true;
+        writes.readLock().unlock();
+      }
+    }
+  }
+
+  /**
+   * @param higher number of scores with more points
+   * @param total number of scores
+   */
+  public record Rank(long higher, long total) {}
+}
@@ -1,8 +1,66 @@
 package com.scrabble.score;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+/**
+ * Declared query methods get no transaction of their own, so the leaderboard and rank reads are
+ * marked read-only here: that lets them go to a read replica. Called inside a read-write
+ * transaction, they join it and read the primary.
+ */
 @Repository
-public interface ScoreRepository extends JpaRepository<Score, UUID> {}
+public interface ScoreRepository extends JpaRepository<Score, UUID>, ScoreRepositoryCustom {
+  /** Reads a single page of scores; unlike {@code findAll(Pageable)} it issues no count query. */
+  @Transactional(readOnly = true)
+  Slice<Score> findSliceBy(Pageable pageable);
+
+  /** Reads a page of the scores created since {@code start}, pruned to the partitions after it. */
+  @Transactional(readOnly = true)
+  Slice<Score> findSliceByCreatedAtGreaterThanEqual(LocalDateTime start, Pageable pageable);
+
+  @Transactional(readOnly = true)
+  long countByPointsGreaterThan(int points);
+
+  @Query("SELECT s.points AS points, COUNT(s) AS count FROM Score s GROUP BY s.points")
+  List<PointsCount> countByPoints();
+
+  @Transactional(readOnly = true)
+  @Query("SELECT s FROM Score s ORDER BY s.points DESC, s.createdAt DESC, s.id DESC")
+  List<Score> findLeaderboardFirstPage(Limit limit);
+
+  /**
+   * Keyset seek: the scores ranking directly after the given sort key. The row-value comparison
+   * gives the leaderboard index a start key to seek to, so a deep page reads no more rows than the
+   * first. An equivalent chain of OR conditions cannot be used as an index bound and would scan
+   * the index from the top. JPQL has no row values, so this query is native.
+   */
+  @Transactional(readOnly = true)
+  @Query(
+      value =
+          "SELECT * FROM scores"
+              + " WHERE (points, created_at, id) < (:points, :createdAt, :id)"
+              + " ORDER BY points DESC, created_at DESC, id DESC"
+              + " LIMIT :limit",
+      nativeQuery = true)
+  List<Score> findLeaderboardPageAfter(
+      @Param("points") int points,
+      @Param("createdAt") LocalDateTime createdAt,
+      @Param("id") UUID id,
+      @Param("limit") int limit);
+
+  /** Number of scores with a given point value. */
+  interface PointsCount {
+    int getPoints();
+
+    long getCount();
+  }
+}
@@ -0,0 +1,34 @@
+package com.scrabble.score;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public interface ScoreRepositoryCustom {
+  /**
+   * Inserts scores in one transaction, with one JDBC batch statement per chunk of {@link
+   * ScoreProperties#getBatchSize()} rows, so either all of them are saved or none is. Missing ids
+   * and creation timestamps are assigned in place, each row reading the clock in turn. Rows stamped
+   * within the clock's resolution tie on {@code createdAt}, and the leaderboard orders them by id.
+   */
+  void insertAll(List<Score> scores);
+
+  /**
+   * Deletes scores by id with set-based statements per chunk of {@link
+   * ScoreProperties#getBatchSize()} ids, without loading them as entities. Unknown ids are ignored.
+   *
+   * @return the points of the deleted scores, one entry per deleted row
+   */
+  List<Integer> deleteAllByIds(Collection<UUID> ids);
+
+  /**
+   * Deletes scores created before {@code createdBefore} and scoring below {@code pointsBelow},
+   * skipping either condition when it is {@code null}. Rows are deleted in chunks of {@link
+   * ScoreProperties#getBatchSize()}, one transaction each, so a large purge never holds its locks
+   * for long.
+   *
+   * @return the number of rows deleted
+   */
+  int deleteAllMatching(LocalDateTime createdBefore, Integer pointsBelow);
+}
@@ -0,0 +1,134 @@
+package com.scrabble.score;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Slf4j
+public class ScoreRepositoryCustomImpl implements ScoreRepositoryCustom {
+  private static final String INSERT_SQL =
+      "INSERT INTO scores (id, letters, points, created_at) VALUES (?, ?, ?, ?)";
+  private static final String LOCK_BY_IDS_SQL =
+      "SELECT points FROM scores WHERE id IN (%s) FOR UPDATE";
+  private static final String DELETE_BY_IDS_SQL = "DELETE FROM scores WHERE id IN (%s)";
+  private static final String DELETE_MATCHING_SQL =
+      "DELETE FROM scores WHERE id IN (SELECT id FROM scores WHERE %s LIMIT ?)";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final TransactionTemplate transactionTemplate;
+  private final ScoreProperties scoreProperties;
+
+  public ScoreRepositoryCustomImpl(
+      JdbcTemplate jdbcTemplate,
+      PlatformTransactionManager transactionManager,
+      ScoreProperties scoreProperties) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.scoreProperties = scoreProperties;
+  }
+
+  @Override
+  public void insertAll(List<Score> scores) {
+    for (Score score : scores) {
+      if (score.getId() == null) {
+        score.setId(UUID.randomUUID());
+      }
+      if (score.getCreatedAt() == null) {
+        // Stamped per row, as @CreationTimestamp does on a single save
+        score.setCreatedAt(LocalDateTime.now());
+      }
+    }
+
+    int batchSize = Math.max(1, scoreProperties.getBatchSize());
+    transactionTemplate.executeWithoutResult(
+        status -> {
+          for (int from = 0; from < scores.size(); from += batchSize) {
+            List<Score> chunk = scores.subList(from, Math.min(from + batchSize, scores.size()));
+            jdbcTemplate.batchUpdate(
+                INSERT_SQL,
+                chunk,
+                chunk.size(),
+                (ps, score) -> {
+                  ps.setObject(1, score.getId());
+                  ps.setString(2, score.getLetters());
+                  ps.setInt(3, score.getPoints());
+                  ps.setTimestamp(4, Timestamp.valueOf(score.getCreatedAt()));
+                });
+          }
+        });
+
+    log.info("Inserted {} scores in batches of {}", scores.size(), batchSize);
+  }
+
+  @Override
+  public List<Integer> deleteAllByIds(Collection<UUID> ids) {
+    List<UUID> distinctIds = List.copyOf(new LinkedHashSet<>(ids));
+    int batchSize = Math.max(1, scoreProperties.getBatchSize());
+    List<Integer> deletedPoints = new ArrayList<>();
+    for (int from = 0; from < distinctIds.size(); from += batchSize) {
+      List<UUID> chunk = distinctIds.subList(from, Math.min(from + batchSize, distinctIds.size()));
+      String placeholders = String.join(", ", Collections.nCopies(chunk.size(), "?"));
+      Object[] params = chunk.toArray();
+      // Locking the rows first reports exactly the points this transaction deletes
+      transactionTemplate.executeWithoutResult(
+          status -> {
+            deletedPoints.addAll(
+                jdbcTemplate.queryForList(
+                    String.format(LOCK_BY_IDS_SQL, placeholders), Integer.class, params));
+            jdbcTemplate.update(String.format(DELETE_BY_IDS_SQL, placeholders), params);
+          });
+    }
+
+    log.info("Deleted {} of {} scores by id", deletedPoints.size(), distinctIds.size());
+    return deletedPoints;
+  }
+
+  @Override
+  public int deleteAllMatching(LocalDateTime createdBefore, Integer pointsBelow) {
+    List<String> conditions = new ArrayList<>(2);
+    List<Object> args = new ArrayList<>(3);
+    if (createdBefore != null) {
+      conditions.add("created_at < ?");
+      args.add(Timestamp.valueOf(createdBefore));
+    }
+    if (pointsBelow != null) {
+      conditions.add("points < ?");
+      args.add(pointsBelow);
+    }
+    if (conditions.isEmpty()) {
+      throw new IllegalArgumentException("A purge needs at least one condition.");
+    }
+
+    int batchSize = Math.max(1, scoreProperties.getBatchSize());
+    args.add(batchSize);
+    String sql = String.format(DELETE_MATCHING_SQL, String.join(" AND ", conditions));
+    Object[] params = args.toArray();
+    int deleted = 0;
+    int chunkDeleted;
+    do {
+      chunkDeleted = update(sql, params);
+      deleted += chunkDeleted;
+    } while (chunkDeleted == batchSize);
+
+    log.info(
+        "Purged {} scores created before {} with fewer than {} points",
+        deleted,
+        createdBefore,
+        pointsBelow);
+    return deleted;
+  }
+
+  private int update(String sql, Object[] params) {
+    Integer updated = transactionTemplate.execute(status -> jdbcTemplate.update(sql, params));
+    return updated == null ? 0 : updated;
+  }
+}
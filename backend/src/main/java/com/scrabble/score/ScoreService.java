@@ -1,22 +1,91 @@
 package com.scrabble.score;
 
+import com.scrabble.score.dto.MoveDTO;
+import com.scrabble.score.dto.MoveScoreDTO;
+import com.scrabble.score.dto.RackWordDTO;
+import com.scrabble.score.dto.ScoreBatchComputeDTO;
+import com.scrabble.score.dto.ScoreBatchCreateDTO;
 import com.scrabble.score.dto.ScoreComputeDTO;
 import com.scrabble.score.dto.ScoreCreateDTO;
 import com.scrabble.score.dto.ScoreDTO;
+import com.scrabble.score.dto.ScoreDeleteDTO;
+import com.scrabble.score.dto.ScoreRankDTO;
 import com.scrabble.score.dto.ScoringRuleDTO;
 import com.scrabble.score.dto.TopScoreDTO;
+import com.scrabble.score.dto.TopScorePageDTO;
+import com.scrabble.score.dto.WordScorePageDTO;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 import org.springframework.data.domain.Pageable;
 
 public interface ScoreService {
-  List<ScoringRuleDTO> getScoringRules();
+  List<String> getRuleSets();
 
-  ScoreComputeDTO computeScore(ScoreCreateDTO request);
+  List<String> reloadRuleSets();
 
-  ScoreDTO create(ScoreCreateDTO request);
+  /**
+   * @param ruleSet name of the rule set, or {@code null} for the default one
+   */
+  List<ScoringRuleDTO> getScoringRules(String ruleSet);
 
-  List<TopScoreDTO> findTopScores(Pageable pageable);
+  /**
+   * @param validate whether to also check the letters against the dictionary
+   * @param ruleSet name of the rule set to score with, or {@code null} for the default one
+   */
+  ScoreComputeDTO computeScore(ScoreCreateDTO request, boolean validate, String ruleSet);
 
-  void deleteByIds(List<UUID> ids);
+  ScoreBatchComputeDTO computeScores(ScoreBatchCreateDTO request, String ruleSet);
+
+  void computeScoresAsText(InputStream input, OutputStream output, String ruleSet)
+      throws IOException;
+
+  void computeScoresAsNdjson(InputStream input, OutputStream output, String ruleSet)
+      throws IOException;
+
+  /**
+   * @param validate whether to reject moves forming words that are not in the dictionary
+   * @param ruleSet name of the rule set to score with, or {@code null} for the default one
+   */
+  MoveScoreDTO computeMoveScore(MoveDTO move, boolean validate, String ruleSet);
+
+  /**
+   * @param request the rack, with {@code ?} for a blank
+   * @param limit maximum number of words to return
+   */
+  List<RackWordDTO> findBestWords(ScoreCreateDTO request, int limit);
+
+  WordScorePageDTO findWords(
+      Integer minScore, Integer maxScore, Integer minLength, Integer maxLength, int page, int size);
+
+  /**
+   * @param validate whether to reject letters that are not a dictionary word
+   */
+  ScoreDTO create(ScoreCreateDTO request, boolean validate);
+
+  List<ScoreDTO> createAll(ScoreBatchCreateDTO request);
+
+  /**
+   * @param window name of a {@link LeaderboardWindow}, or {@code null} for all time
+   */
+  List<TopScoreDTO> findTopScores(Pageable pageable, String window);
+
+  TopScorePageDTO findTopScores(String cursor, int size);
+
+  /** Global rank of a saved score among all saved scores. */
+  ScoreRankDTO findRank(UUID id);
+
+  /** Rank a score of {@code points} would have among all saved scores. */
+  ScoreRankDTO findRank(int points);
+
+  ScoreDeleteDTO deleteByIds(List<UUID> ids);
+
+  /**
+   * Deletes every score created before {@code createdBefore} and scoring below {@code
+   * pointsBelow}. Either may be {@code null}, but not both.
+   */
+  ScoreDeleteDTO purge(LocalDateTime createdBefore, Integer pointsBelow);
 }
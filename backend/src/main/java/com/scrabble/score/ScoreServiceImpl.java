@@ -1,18 +1,35 @@
 package com.scrabble.score;
 
+import com.scrabble.dictionary.DictionaryService;
+import com.scrabble.score.dto.MoveDTO;
+import com.scrabble.score.dto.MoveScoreDTO;
+import com.scrabble.score.dto.RackWordDTO;
+import com.scrabble.score.dto.ScoreBatchComputeDTO;
+import com.scrabble.score.dto.ScoreBatchCreateDTO;
 import com.scrabble.score.dto.ScoreComputeDTO;
 import com.scrabble.score.dto.ScoreCreateDTO;
 import com.scrabble.score.dto.ScoreDTO;
+import com.scrabble.score.dto.ScoreDeleteDTO;
+import com.scrabble.score.dto.ScoreRankDTO;
 import com.scrabble.score.dto.ScoringRuleDTO;
 import com.scrabble.score.dto.TopScoreDTO;
+import com.scrabble.score.dto.TopScorePageDTO;
+import com.scrabble.score.dto.WordScorePageDTO;
+import io.micrometer.core.annotation.Timed;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
 import java.util.UUID;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @Slf4j
@@ -22,52 +39,171 @@ public class ScoreServiceImpl implements ScoreService {
 
   private final ScoreRepository scoreRepository;
   private final ScoringRulesService scoringRulesService;
+  private final LeaderboardCache leaderboardCache;
+  private final DictionaryService dictionaryService;
+  private final RackSolverService rackSolverService;
+  private final WordIndexService wordIndexService;
+  private final MoveScoringService moveScoringService;
+  private final ScoreRankTracker scoreRankTracker;
 
   public ScoreServiceImpl(
-      ScoreRepository scoreRepository, ScoringRulesService scoringRulesService) {
+      ScoreRepository scoreRepository,
+      ScoringRulesService scoringRulesService,
+      LeaderboardCache leaderboardCache,
+      DictionaryService dictionaryService,
+      RackSolverService rackSolverService,
+      WordIndexService wordIndexService,
+      MoveScoringService moveScoringService,
+      ScoreRankTracker scoreRankTracker) {
     this.scoreRepository = scoreRepository;
     this.scoringRulesService = scoringRulesService;
+    this.leaderboardCache = leaderboardCache;
+    this.dictionaryService = dictionaryService;
+    this.rackSolverService = rackSolverService;
+    this.wordIndexService = wordIndexService;
+    this.moveScoringService = moveScoringService;
+    this.scoreRankTracker = scoreRankTracker;
   }
 
   @Override
-  public List<ScoringRuleDTO> getScoringRules() {
-    return scoringRulesService.getScoringRules();
+  public List<String> getRuleSets() {
+    return scoringRulesService.getRuleSetNames();
   }
 
   @Override
-  public ScoreComputeDTO computeScore(ScoreCreateDTO request) {
-    int totalScore = scoringRulesService.computeScore(request.getLetters());
+  public List<String> reloadRuleSets() {
+    List<String> ruleSets = scoringRulesService.reload();
+    log.info("Reloaded scoring rule sets: {}", ruleSets);
+    return ruleSets;
+  }
+
+  @Override
+  public List<ScoringRuleDTO> getScoringRules(String ruleSet) {
+    return scoringRulesService.getScoringRules(ruleSet);
+  }
+
+  @Override
+  public ScoreComputeDTO computeScore(ScoreCreateDTO request, boolean validate, String ruleSet) {
+    int totalScore = scoringRulesService.computeScore(request.getLetters(), ruleSet);
+
+    log.debug("Computed score {} for letters: {}", totalScore, request.getLetters());
+
+    return ScoreComputeDTO.builder()
+        .letters(request.getLetters())
+        .score(totalScore)
+        .valid(validate ? dictionaryService.isValid(request.getLetters()) : null)
+        .build();
+  }
+
+  @Override
+  public ScoreBatchComputeDTO computeScores(ScoreBatchCreateDTO request, String ruleSet) {
+    int[] scores = scoringRulesService.computeScores(request.getLetters(), ruleSet);
+
+    return ScoreBatchComputeDTO.builder().scores(scores).build();
+  }
+
+  @Override
+  public void computeScoresAsText(InputStream input, OutputStream output, String ruleSet)
+      throws IOException {
+    ScoringTable scoringTable = scoringRulesService.getScoringTable(ruleSet);
+    long count = ScoreStreams.scoreLines(scoringTable, input, output);
+    log.info("Streamed {} computed scores as text", count);
+  }
 
-    log.info("Computed score {} for letters: {}", totalScore, request.getLetters());
+  @Override
+  public void computeScoresAsNdjson(InputStream input, OutputStream output, String ruleSet)
+      throws IOException {
+    ScoringTable scoringTable = scoringRulesService.getScoringTable(ruleSet);
+    long count = ScoreStreams.scoreNdjson(scoringTable, input, output);
+    log.info("Streamed {} computed scores as NDJSON", count);
+  }
+
+  @Override
+  @Timed("scrabble.score.move")
+  public MoveScoreDTO computeMoveScore(MoveDTO move, boolean validate, String ruleSet) {
+    return moveScoringService.scoreMove(move, validate, ruleSet);
+  }
 
-    return ScoreComputeDTO.builder().letters(request.getLetters()).score(totalScore).build();
+  @Override
+  @Timed("scrabble.score.solve")
+  public List<RackWordDTO> findBestWords(ScoreCreateDTO request, int limit) {
+    return rackSolverService.findBestWords(request.getLetters(), limit);
+  }
+
+  @Override
+  @Timed("scrabble.score.words")
+  public WordScorePageDTO findWords(
+      Integer minScore,
+      Integer maxScore,
+      Integer minLength,
+      Integer maxLength,
+      int page,
+      int size) {
+    return wordIndexService.findWords(minScore, maxScore, minLength, maxLength, page, size);
   }
 
   @Override
-  public ScoreDTO create(ScoreCreateDTO request) {
-    log.info("Creating new score entry for letters: {}", request.getLetters());
+  @Timed("scrabble.score.create")
+  public ScoreDTO create(ScoreCreateDTO request, boolean validate) {
+    log.debug("Creating new score entry for letters: {}", request.getLetters());
+    if (validate && !dictionaryService.isValid(request.getLetters())) {
+      throw new IllegalArgumentException(
+          String.format("'%s' is not a valid word.", request.getLetters()));
+    }
     int totalScore = scoringRulesService.computeScore(request.getLetters());
 
     Score score =
         Score.builder().letters(request.getLetters().toUpperCase()).points(totalScore).build();
 
-    Score savedScore = scoreRepository.save(score);
+    Score savedScore;
+    try (ScoreRankTracker.Write rankWrite = scoreRankTracker.beginWrite()) {
+      savedScore = scoreRepository.save(score);
+      rankWrite.added(List.of(savedScore));
+    }
+    leaderboardCache.add(savedScore);
     log.info(
         "Created score entry with ID: {}, letters: {}, points: {}",
         savedScore.getId(),
         savedScore.getLetters(),
         savedScore.getPoints());
 
-    return ScoreDTO.builder()
-        .id(savedScore.getId())
-        .letters(savedScore.getLetters())
-        .points(savedScore.getPoints())
-        .createdAt(savedScore.getCreatedAt())
-        .build();
+    return ScoreMapper.toScoreDTO(savedScore);
+  }
+
+  @Override
+  public List<ScoreDTO> createAll(ScoreBatchCreateDTO request) {
+    List<String> letters = request.getLetters();
+    log.info("Creating {} score entries in bulk", letters.size());
+    int[] totalScores = scoringRulesService.computeScores(letters);
+
+    List<Score> scores = new ArrayList<>(letters.size());
+    for (int i = 0; i < letters.size(); i++) {
+      scores.add(
+          Score.builder().letters(letters.get(i).toUpperCase()).points(totalScores[i]).build());
+    }
+
+    try (ScoreRankTracker.Write rankWrite = scoreRankTracker.beginWrite()) {
+      scoreRepository.insertAll(scores);
+      rankWrite.added(scores);
+    } catch (RuntimeException e) {
+      // A commit that failed on the way back may still have saved the rows, so the caches are
+      // rebuilt from the table instead of guessing. The rank write is closed by now.
+      leaderboardCache.reload();
+      scoreRankTracker.reload();
+      throw e;
+    }
+    leaderboardCache.addAll(scores);
+
+    List<ScoreDTO> result = new ArrayList<>(scores.size());
+    for (Score score : scores) {
+      result.add(ScoreMapper.toScoreDTO(score));
+    }
+    return result;
   }
 
   @Override
-  public List<TopScoreDTO> findTopScores(Pageable pageable) {
+  @Timed(value = "scrabble.score.top", extraTags = {"pagination", "offset"})
+  public List<TopScoreDTO> findTopScores(Pageable pageable, String window) {
     for (Sort.Order order : pageable.getSort()) {
       if (!ALLOWED_SORT_FIELDS.contains(order.getProperty())) {
         log.warn("Invalid sort field attempted: {}", order.getProperty());
@@ -76,33 +212,137 @@ public class ScoreServiceImpl implements ScoreService {
       }
     }
 
-    if (pageable.getPageSize() > MAX_PAGE_SIZE) {
-      log.warn(
-          "Page size {} exceeds maximum allowed size {}", pageable.getPageSize(), MAX_PAGE_SIZE);
+    validatePageSize(pageable.getPageSize());
+    LeaderboardWindow leaderboardWindow = LeaderboardWindow.parse(window);
+
+    List<Score> topScores =
+        leaderboardCache
+            .findPage(pageable, leaderboardWindow)
+            .orElseGet(() -> findSlice(pageable, leaderboardWindow));
+
+    List<TopScoreDTO> result =
+        ScoreMapper.toTopScoreDTOs(topScores, (int) pageable.getOffset() + 1);
+    log.debug("Returning {} top score records", result.size());
+    return result;
+  }
+
+  private List<Score> findSlice(Pageable pageable, LeaderboardWindow window) {
+    // Scores of one bulk batch can tie on every requested key, so pages end with the id key
+    Pageable ordered = LeaderboardCache.withIdTieBreak(pageable);
+    if (window == LeaderboardWindow.ALL) {
+      return scoreRepository.findSliceBy(ordered).getContent();
+    }
+    LocalDateTime start = window.start(LocalDateTime.now());
+    return scoreRepository.findSliceByCreatedAtGreaterThanEqual(start, ordered).getContent();
+  }
+
+  @Override
+  @Timed(value = "scrabble.score.top", extraTags = {"pagination", "cursor"})
+  public TopScorePageDTO findTopScores(String cursor, int size) {
+    if (size < 1) {
+      throw new IllegalArgumentException("Page size must be positive.");
+    }
+    validatePageSize(size);
+
+    // One extra row tells whether another page follows
+    Limit limit = Limit.of(size + 1);
+    List<Score> scores;
+    long rankBefore;
+    if (cursor == null || cursor.isBlank()) {
+      scores = scoreRepository.findLeaderboardFirstPage(limit);
+      rankBefore = 0;
+    } else {
+      ScoreCursor after = ScoreCursor.decode(cursor);
+      scores =
+          scoreRepository.findLeaderboardPageAfter(
+              after.points(), after.createdAt(), after.id(), limit.max());
+      rankBefore = after.rank();
+    }
+
+    boolean hasNext = scores.size() > size;
+    List<Score> page = hasNext ? scores.subList(0, size) : scores;
+    List<TopScoreDTO> items = ScoreMapper.toTopScoreDTOs(page, (int) rankBefore + 1);
+    String nextCursor =
+        hasNext ? ScoreCursor.after(page.get(size - 1), rankBefore + size).encode() : null;
+
+    log.debug("Returning {} top score records after rank {}", items.size(), rankBefore);
+    return TopScorePageDTO.builder().items(items).nextCursor(nextCursor).build();
+  }
+
+  @Override
+  @Transactional
+  @Timed(value = "scrabble.score.rank", extraTags = {"by", "id"})
+  public ScoreRankDTO findRank(UUID id) {
+    // Read-write, so the lookup reads the primary: clients ask for the rank of a score they have
+    // just created, which a lagging replica may not have yet
+    Score score =
+        scoreRepository
+            .findById(id)
+            .orElseThrow(
+                () -> new IllegalArgumentException(String.format("Score not found: %s.", id)));
+    ScoreRankDTO rank = findRank(score.getPoints());
+    rank.setId(id);
+    return rank;
+  }
+
+  @Override
+  @Timed(value = "scrabble.score.rank", extraTags = {"by", "points"})
+  public ScoreRankDTO findRank(int points) {
+    if (points < 0) {
+      throw new IllegalArgumentException("Points must not be negative.");
+    }
+    ScoreRankTracker.Rank rank =
+        scoreRankTracker
+            .rank(points)
+            .orElseGet(
+                () ->
+                    new ScoreRankTracker.Rank(
+                        scoreRepository.countByPointsGreaterThan(points),
+                        scoreRepository.count()));
+
+    long total = rank.total();
+    double percentile =
+        total == 0 ? 100 : Math.round(10_000.0 * (total - rank.higher()) / total) / 100.0;
+    return ScoreRankDTO.builder()
+        .points(points)
+        .rank(rank.higher() + 1)
+        .total(total)
+        .percentile(percentile)
+        .build();
+  }
+
+  private void validatePageSize(int size) {
+    if (size > MAX_PAGE_SIZE) {
+      log.warn("Page size {} exceeds maximum allowed size {}", size, MAX_PAGE_SIZE);
       throw new IllegalArgumentException(
-          String.format("Page size cannot exceed %d.", MAX_PAGE_SIZE, pageable.getPageSize()));
+          String.format("Page size cannot exceed %d.", MAX_PAGE_SIZE));
     }
+  }
 
-    List<Score> topScores = scoreRepository.findAll(pageable).getContent();
-
-    List<TopScoreDTO> result = new ArrayList<>();
-    for (int i = 0; i < topScores.size(); i++) {
-      Score score = topScores.get(i);
-      result.add(
-          TopScoreDTO.builder()
-              .id(score.getId())
-              .rank(i + 1)
-              .score(score.getPoints())
-              .letters(score.getLetters())
-              .createdAt(score.getCreatedAt())
-              .build());
+  @Override
+  @Timed("scrabble.score.delete")
+  public ScoreDeleteDTO deleteByIds(List<UUID> ids) {
+    List<Integer> deletedPoints;
+    try (ScoreRankTracker.Write rankWrite = scoreRankTracker.beginWrite()) {
+      deletedPoints = scoreRepository.deleteAllByIds(ids);
+      rankWrite.removed(deletedPoints);
     }
-    log.info("Returning {} top score records", result.size());
-    return result;
+    leaderboardCache.remove(ids);
+    return ScoreDeleteDTO.builder().deleted(deletedPoints.size()).build();
   }
 
   @Override
-  public void deleteByIds(List<UUID> ids) {
-    scoreRepository.deleteAllById(ids);
+  @Timed("scrabble.score.purge")
+  public ScoreDeleteDTO purge(LocalDateTime createdBefore, Integer pointsBelow) {
+    if (createdBefore == null && pointsBelow == null) {
+      throw new IllegalArgumentException("Specify createdBefore, pointsBelow or both.");
+    }
+    int deleted = scoreRepository.deleteAllMatching(createdBefore, pointsBelow);
+    if (deleted > 0) {
+      // The purged rows are never read, so the caches are reloaded rather than updated
+      leaderboardCache.reload();
+      scoreRankTracker.reload();
+    }
+    return ScoreDeleteDTO.builder().deleted(deleted).build();
   }
 }
@@ -0,0 +1,237 @@
+package com.scrabble.score;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Scores newline-delimited input while it is being read, writing one result per input line.
+ *
+ * <p>Only a fixed-size read buffer and a reusable line buffer are held at any time, so memory stays
+ * flat regardless of input size. Blank lines are skipped.
+ *
+ * <p>Results for earlier lines may already have been sent by the time a bad line is read, so bad
+ * input cannot be answered with a 400. Instead the results read so far are written, followed by one
+ * error record, and the stream ends there.
+ */
+final class ScoreStreams {
+  static final int MAX_LINE_LENGTH = 1024;
+  static final String TEXT_ERROR_PREFIX = "#error\t";
+
+  private static final int BUFFER_SIZE = 8192;
+  private static final String LETTERS_FIELD = "letters";
+  private static final String SCORE_FIELD = "score";
+  private static final String ERROR_FIELD = "error";
+  private static final JsonFactory JSON_FACTORY =
+      new JsonFactory()
+          .setRootValueSeparator(null)
+          .disable(JsonParser.Feature.AUTO_CLOSE_SOURCE)
+          .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+  private ScoreStreams() {}
+
+  /**
+   * Reads plain text with one word per line and writes {@code <letters>\t<score>} lines. Bad input
+   * ends the output with a {@code #error\t<message>} line.
+   *
+   * @return the number of scored lines
+   */
+  static long scoreLines(ScoringTable scoringTable, InputStream input, OutputStream output)
+      throws IOException {
+    LineScorer lineScorer = new LineScorer(scoringTable, output);
+    byte[] buffer = new byte[BUFFER_SIZE];
+
+    try {
+      int read;
+      while ((read = input.read(buffer)) != -1) {
+        for (int i = 0; i < read; i++) {
+          lineScorer.accept(buffer[i]);
+        }
+      }
+    } catch (IllegalArgumentException e) {
+      return lineScorer.fail(e.getMessage());
+    }
+    return lineScorer.finish();
+  }
+
+  /**
+   * Reads one {@code {"letters": "..."}} object (or bare JSON string) per line and writes {@code
+   * {"letters": "...", "score": n}} lines. Unknown fields are ignored. Bad input ends the output
+   * with an {@code {"error": "..."}} line.
+   *
+   * @return the number of scored objects
+   */
+  static long scoreNdjson(ScoringTable scoringTable, InputStream input, OutputStream output)
+      throws IOException {
+    char[] letters = new char[MAX_LINE_LENGTH];
+    long count = 0;
+
+    try (JsonParser parser = JSON_FACTORY.createParser(input);
+        JsonGenerator generator = JSON_FACTORY.createGenerator(output)) {
+      try {
+        JsonToken token;
+        while ((token = parser.nextToken()) != null) {
+          int lettersLength = readLetters(parser, token, letters);
+          generator.writeStartObject();
+          generator.writeFieldName(LETTERS_FIELD);
+          if (lettersLength < 0) {
+            generator.writeNull();
+            generator.writeNumberField(SCORE_FIELD, 0);
+          } else {
+            generator.writeString(letters, 0, lettersLength);
+            generator.writeNumberField(SCORE_FIELD, scoringTable.score(letters, 0, lettersLength));
+          }
+          generator.writeEndObject();
+          generator.writeRaw('\n');
+          count++;
+        }
+      } catch (JsonProcessingException e) {
+        int lineNr = e.getLocation() == null ? -1 : e.getLocation().getLineNr();
+        writeError(generator, String.format("Malformed NDJSON on line %d.", lineNr));
+      } catch (IllegalArgumentException e) {
+        writeError(generator, e.getMessage());
+      }
+    }
+    return count;
+  }
+
+  /**
+   * Reads the letters of the value starting at {@code token} into {@code target}.
+   *
+   * @return the number of letters, or -1 when an object has no {@code letters} string
+   */
+  private static int readLetters(JsonParser parser, JsonToken token, char[] target)
+      throws IOException {
+    if (token == JsonToken.VALUE_STRING) {
+      return copyText(parser, target);
+    }
+    if (token != JsonToken.START_OBJECT) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Expected a JSON object on line %d.", parser.currentLocation().getLineNr()));
+    }
+    int lettersLength = -1;
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String field = parser.currentName();
+      JsonToken value = parser.nextToken();
+      if (LETTERS_FIELD.equals(field) && value == JsonToken.VALUE_STRING) {
+        lettersLength = copyText(parser, target);
+      } else {
+        parser.skipChildren();
+      }
+    }
+    return lettersLength;
+  }
+
+  private static void writeError(JsonGenerator generator, String message) throws IOException {
+    generator.writeStartObject();
+    generator.writeStringField(ERROR_FIELD, message);
+    generator.writeEndObject();
+    generator.writeRaw('\n');
+  }
+
+  /** Copies the current string token into {@code target} without creating a String. */
+  private static int copyText(JsonParser parser, char[] target) throws IOException {
+    int length = parser.getTextLength();
+    if (length > target.length) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Letters on line %d exceed %d characters.",
+              parser.currentLocation().getLineNr(), target.length));
+    }
+    System.arraycopy(parser.getTextCharacters(), parser.getTextOffset(), target, 0, length);
+    return length;
+  }
+
+  /** Accumulates bytes into lines and buffers {@code <line>\t<score>\n} output. */
+  private static final class LineScorer {
+    private final ScoringTable scoringTable;
+    private final OutputStream output;
+    private final byte[] line = new byte[MAX_LINE_LENGTH];
+    private final byte[] out = new byte[BUFFER_SIZE];
+    private int lineLength;
+    private int outLength;
+    private long count;
+
+    LineScorer(ScoringTable scoringTable, OutputStream output) {
+      this.scoringTable = scoringTable;
+      this.output = output;
+    }
+
+    void accept(byte b) throws IOException {
+      if (b == '\n') {
+        endLine();
+        return;
+      }
+      if (lineLength == MAX_LINE_LENGTH) {
+        throw new IllegalArgumentException(
+            String.format("Line %d exceeds %d bytes.", count + 1, MAX_LINE_LENGTH));
+      }
+      line[lineLength++] = b;
+    }
+
+    long finish() throws IOException {
+      endLine();
+      output.write(out, 0, outLength);
+      output.flush();
+      return count;
+    }
+
+    /** Writes the lines scored so far and then the error line, dropping the unfinished line. */
+    long fail(String message) throws IOException {
+      output.write(out, 0, outLength);
+      output.write((TEXT_ERROR_PREFIX + message + '\n').getBytes(StandardCharsets.UTF_8));
+      output.flush();
+      return count;
+    }
+
+    private void endLine() throws IOException {
+      int length = lineLength;
+      lineLength = 0;
+      if (length > 0 && line[length - 1] == '\r') {
+        length--;
+      }
+      if (isBlank(length)) {
+        return;
+      }
+      // Room for the line, a tab, up to 10 score digits and the newline
+      if (outLength + length + 12 > out.length) {
+        output.write(out, 0, outLength);
+        outLength = 0;
+      }
+      System.arraycopy(line, 0, out, outLength, length);
+      outLength += length;
+      out[outLength++] = '\t';
+      writeDigits(scoringTable.score(line, 0, length));
+      out[outLength++] = '\n';
+      count++;
+    }
+
+    private boolean isBlank(int length) {
+      for (int i = 0; i < length; i++) {
+        if (line[i] != ' ' && line[i] != '\t') {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    private void writeDigits(int value) {
+      int digits = 1;
+      for (int remaining = value; remaining >= 10; remaining /= 10) {
+        digits++;
+      }
+      outLength += digits;
+      for (int position = outLength - 1; position >= outLength - digits; position--) {
+        out[position] = (byte) ('0' + value % 10);
+        value /= 10;
+      }
+    }
+  }
+}
@@ -3,8 +3,37 @@ package com.scrabble.score;
 import com.scrabble.score.dto.ScoringRuleDTO;
 import java.util.List;
 
+/**
+ * Named scoring rule sets. Methods taking a {@code ruleSet} fall back to the default set when it is
+ * {@code null} or blank, and reject unknown names with an {@link IllegalArgumentException}.
+ */
 public interface ScoringRulesService {
+  String DEFAULT_RULE_SET = "en";
+
+  /** Names of the available rule sets, in alphabetical order. */
+  List<String> getRuleSetNames();
+
+  /**
+   * Loads the rule sets again and swaps them in at once. Scoring carries on with the previous rule
+   * sets while loading, and keeps them if the new ones are invalid.
+   *
+   * @return the names of the rule sets now available
+   */
+  List<String> reload();
+
   List<ScoringRuleDTO> getScoringRules();
 
+  List<ScoringRuleDTO> getScoringRules(String ruleSet);
+
+  ScoringTable getScoringTable();
+
+  ScoringTable getScoringTable(String ruleSet);
+
   int computeScore(String letters);
+
+  int computeScore(String letters, String ruleSet);
+
+  int[] computeScores(List<? extends CharSequence> letters);
+
+  int[] computeScores(List<? extends CharSequence> letters, String ruleSet);
 }
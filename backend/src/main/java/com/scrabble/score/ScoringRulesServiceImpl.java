@@ -1,16 +1,39 @@
 package com.scrabble.score;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.scrabble.score.dto.ScoringRuleDTO;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.TreeMap;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.stereotype.Service;
 
+/**
+ * Scoring rule sets loaded from a JSON object mapping each rule set name to its rules, for example
+ * {@code {"fr": [{"points": 1, "letters": "EAINORSTUL"}, ...]}}. A rule set can instead be an
+ * object with its {@code rules} and the {@code locale} used to match letters case-insensitively,
+ * such as {@code {"tr": {"locale": "tr", "rules": [...]}}}. Rules may list multi-letter tiles
+ * under {@code tiles}.
+ *
+ * <p>Every rule set is compiled into a {@link ScoringTable} when loaded. The compiled sets live in
+ * an immutable map that a reload replaces as a whole, so scoring reads one volatile field and never
+ * waits for a reload. A rule set whose rules did not change keeps its table, which lets callers
+ * that cache work per table tell that nothing changed.
+ */
 @Service
 @Slf4j
 public class ScoringRulesServiceImpl implements ScoringRulesService {
+  static final String BUNDLED_RULES = "/scoring-rules.json";
 
   private static final List<ScoringRuleDTO> SCORING_RULES =
       List.of(
@@ -22,37 +45,203 @@ public class ScoringRulesServiceImpl implements ScoringRulesService {
           ScoringRuleDTO.builder().points(8).letters("JX").build(),
           ScoringRuleDTO.builder().points(10).letters("QZ").build());
 
-  private static final Map<Character, Integer> LETTER_SCORES =
-      SCORING_RULES.stream()
-          .flatMap(
-              rule ->
-                  rule.getLetters().chars().mapToObj(c -> Map.entry((char) c, rule.getPoints())))
-          .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+  private final String rulesPath;
+  private volatile Map<String, RuleSet> ruleSets;
+
+  public ScoringRulesServiceImpl(ScoreProperties scoreProperties) {
+    this.rulesPath = scoreProperties.getRulesPath();
+    this.ruleSets = load(Map.of());
+  }
+
+  @Override
+  public List<String> getRuleSetNames() {
+    return List.copyOf(ruleSets.keySet());
+  }
+
+  @Override
+  public List<String> reload() {
+    Map<String, RuleSet> loaded;
+    try {
+      loaded = load(ruleSets);
+    } catch (UncheckedIOException e) {
+      // Like a file with invalid rules, a missing or unreadable one is rejected and the current
+      // rule sets stay in use
+      log.warn("Scoring rules reload failed, keeping {}", ruleSets.keySet(), e);
+      throw new IllegalArgumentException(e.getMessage() + ".", e);
+    }
+    ruleSets = loaded;
+    return List.copyOf(loaded.keySet());
+  }
 
   @Override
   public List<ScoringRuleDTO> getScoringRules() {
-    return SCORING_RULES;
+    return getScoringRules(null);
+  }
+
+  @Override
+  public List<ScoringRuleDTO> getScoringRules(String ruleSet) {
+    return ruleSet(ruleSet).rules();
+  }
+
+  @Override
+  public ScoringTable getScoringTable() {
+    return getScoringTable(null);
+  }
+
+  @Override
+  public ScoringTable getScoringTable(String ruleSet) {
+    return ruleSet(ruleSet).scoringTable();
   }
 
   @Override
   public int computeScore(String letters) {
-    log.info("Computing score for input letters: '{}'", letters);
+    return computeScore(letters, null);
+  }
+
+  @Override
+  public int computeScore(String letters, String ruleSet) {
+    int totalScore = getScoringTable(ruleSet).score(letters);
+
+    log.debug("Computed score {} for letters: '{}'", totalScore, letters);
+
+    return totalScore;
+  }
 
-    if (StringUtils.isBlank(letters)) {
-      log.info("Input letters is blank/null, returning score: 0");
-      return 0;
+  @Override
+  public int[] computeScores(List<? extends CharSequence> letters) {
+    return computeScores(letters, null);
+  }
+
+  @Override
+  public int[] computeScores(List<? extends CharSequence> letters, String ruleSet) {
+    ScoringTable scoringTable = getScoringTable(ruleSet);
+    int[] scores = new int[letters.size()];
+    int i = 0;
+    for (CharSequence word : letters) {
+      scores[i++] = scoringTable.score(word);
     }
 
-    var totalScore =
-        letters
-            .toUpperCase()
-            .chars()
-            .mapToObj(c -> (char) c)
-            .mapToInt(c -> LETTER_SCORES.getOrDefault(c, 0))
-            .sum();
+    log.debug("Computed {} scores in batch", scores.length);
 
-    log.info("Computed score {} for letters: '{}'", totalScore, letters);
+    return scores;
+  }
 
-    return totalScore;
+  private RuleSet ruleSet(String name) {
+    if (StringUtils.isBlank(name)) {
+      return ruleSets.get(DEFAULT_RULE_SET);
+    }
+    RuleSet ruleSet = ruleSets.get(name.toLowerCase(Locale.ROOT));
+    if (ruleSet == null) {
+      throw new IllegalArgumentException(String.format("Unknown rule set: %s.", name));
+    }
+    return ruleSet;
+  }
+
+  /** Reads and compiles all rule sets, reusing the entries of {@code previous} left unchanged. */
+  private Map<String, RuleSet> load(Map<String, RuleSet> previous) {
+    Map<String, RuleSet> parsed = new TreeMap<>();
+    parsed.put(DEFAULT_RULE_SET, new RuleSet(SCORING_RULES, Locale.ROOT, null));
+    String source = StringUtils.isBlank(rulesPath) ? "classpath:" + BUNDLED_RULES : rulesPath;
+    try (InputStream input = open()) {
+      parsed.putAll(parse(OBJECT_MAPPER.readTree(input)));
+    } catch (IOException e) {
+      throw new UncheckedIOException("Could not load scoring rules from " + source, e);
+    }
+
+    Map<String, RuleSet> compiled = new TreeMap<>();
+    parsed.forEach(
+        (name, ruleSet) -> {
+          RuleSet current = previous.get(name);
+          compiled.put(
+              name,
+              current != null
+                      && current.rules().equals(ruleSet.rules())
+                      && current.locale().equals(ruleSet.locale())
+                  ? current
+                  : ruleSet.compile());
+        });
+    log.info("Loaded scoring rule sets {} from {}", compiled.keySet(), source);
+    return Collections.unmodifiableMap(compiled);
+  }
+
+  private InputStream open() throws IOException {
+    if (StringUtils.isBlank(rulesPath)) {
+      InputStream input = ScoringRulesServiceImpl.class.getResourceAsStream(BUNDLED_RULES);
+      if (input == null) {
+        throw new IOException(BUNDLED_RULES + " is missing from the classpath.");
+      }
+      return input;
+    }
+    return Files.newInputStream(Path.of(rulesPath));
+  }
+
+  private static Map<String, RuleSet> parse(JsonNode root) {
+    if (root == null || !root.isObject()) {
+      throw new IllegalArgumentException("Scoring rules must be a JSON object of rule sets.");
+    }
+    Map<String, RuleSet> ruleSets = new TreeMap<>();
+    for (Map.Entry<String, JsonNode> field : root.properties()) {
+      String name = field.getKey().strip().toLowerCase(Locale.ROOT);
+      JsonNode value = field.getValue();
+      JsonNode locale = value.get("locale");
+      JsonNode rules = value.isObject() ? value.get("rules") : value;
+      if (name.isEmpty()
+          || rules == null
+          || !rules.isArray()
+          || (locale != null && !locale.isTextual())) {
+        throw new IllegalArgumentException(
+            String.format("Rule set '%s' must have a name and a list of rules.", field.getKey()));
+      }
+      List<ScoringRuleDTO> ruleList = new ArrayList<>();
+      for (JsonNode rule : rules) {
+        ruleList.add(parseRule(name, rule));
+      }
+      ruleSets.put(
+          name,
+          new RuleSet(
+              List.copyOf(ruleList),
+              locale == null ? Locale.ROOT : Locale.forLanguageTag(locale.asText()),
+              null));
+    }
+    return ruleSets;
+  }
+
+  private static ScoringRuleDTO parseRule(String ruleSet, JsonNode rule) {
+    JsonNode points = rule.get("points");
+    JsonNode letters = rule.get("letters");
+    JsonNode tiles = rule.get("tiles");
+    boolean validTiles = tiles == null || tiles.isArray();
+    List<String> tileList = new ArrayList<>();
+    if (tiles != null) {
+      for (JsonNode tile : tiles) {
+        validTiles &= tile.isTextual();
+        tileList.add(tile.asText());
+      }
+    }
+    if (points == null
+        || !points.isIntegralNumber()
+        || !points.canConvertToInt()
+        || points.asInt() < 0
+        || (letters != null && !letters.isTextual())
+        || !validTiles
+        || (letters == null && tileList.isEmpty())) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Every rule in rule set '%s' needs non-negative points and letters or tiles.",
+              ruleSet));
+    }
+    return ScoringRuleDTO.builder()
+        .points(points.asInt())
+        .letters(letters == null ? null : letters.asText())
+        .tiles(tileList.isEmpty() ? null : List.copyOf(tileList))
+        .build();
+  }
+
+  private record RuleSet(List<ScoringRuleDTO> rules, Locale locale, ScoringTable scoringTable) {
+    RuleSet compile() {
+      return new RuleSet(rules, locale, ScoringTable.compile(rules, locale));
+    }
   }
 }
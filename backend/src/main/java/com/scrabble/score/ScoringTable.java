@@ -0,0 +1,372 @@
+package com.scrabble.score;
+
+import com.scrabble.score.dto.ScoringRuleDTO;
+import java.nio.CharBuffer;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compiled letter lookup for a set of scoring rules.
+ *
+ * <p>Points are stored in a primitive table indexed by character code, with both the upper and
+ * lower case form of every rule letter populated up front. Scoring therefore needs no case
+ * conversion, boxing or intermediate strings. Characters outside the table score 0.
+ *
+ * <p>Rule sets with tiles beyond single ASCII letters (accented letters, digraphs such as Spanish
+ * {@code CH}, or a locale whose case mapping differs from English, such as Turkish) are compiled
+ * into a tile automaton instead: a trie over the upper case tiles, walked one character at a time
+ * after folding it with the rule set's locale. Input is split greedily into the longest tile that
+ * matches, and characters that start no tile score 0. Tiles are also matched in their decomposed
+ * Unicode form, so {@code N} followed by a combining tilde scores as the precomposed letter.
+ * English-only rule sets never touch the automaton.
+ */
+public final class ScoringTable {
+  private static final int TABLE_SIZE = 128;
+  private static final int ALL_LETTERS = (1 << 26) - 1;
+  private static final int NO_TILE = -1;
+  private static final char REPLACEMENT = '\uFFFD';
+
+  private final int[] points;
+  private final boolean perLetter;
+
+  // Tile automaton, only used when perLetter is false
+  private final char[] asciiFolds;
+  private final char[] foldKeys;
+  private final char[] foldValues;
+  private final char[][] labels;
+  private final int[][] targets;
+  private final int[] tilePoints;
+
+  private ScoringTable(
+      int[] points, boolean perLetter, TileTrie trie, Map<Character, Character> folds) {
+    this.points = points;
+    this.perLetter = perLetter;
+    this.asciiFolds = new char[TABLE_SIZE];
+    for (char c = 0; c < TABLE_SIZE; c++) {
+      asciiFolds[c] = folds.getOrDefault(c, c);
+    }
+    Map<Character, Character> nonAsciiFolds = new TreeMap<>(folds).tailMap((char) TABLE_SIZE);
+    this.foldKeys = new char[nonAsciiFolds.size()];
+    this.foldValues = new char[nonAsciiFolds.size()];
+    int i = 0;
+    for (Map.Entry<Character, Character> fold : nonAsciiFolds.entrySet()) {
+      foldKeys[i] = fold.getKey();
+      foldValues[i++] = fold.getValue();
+    }
+    int nodes = trie.children.size();
+    this.labels = new char[nodes][];
+    this.targets = new int[nodes][];
+    this.tilePoints = new int[nodes];
+    for (int node = 0; node < nodes; node++) {
+      TreeMap<Character, Integer> children = trie.children.get(node);
+      labels[node] = new char[children.size()];
+      targets[node] = new int[children.size()];
+      int child = 0;
+      for (Map.Entry<Character, Integer> edge : children.entrySet()) {
+        labels[node][child] = edge.getKey();
+        targets[node][child++] = edge.getValue();
+      }
+      tilePoints[node] = trie.points.get(node);
+    }
+  }
+
+  public static ScoringTable compile(List<ScoringRuleDTO> rules) {
+    return compile(rules, Locale.ROOT);
+  }
+
+  /**
+   * @param locale case mapping used to match input against the tiles, for example Turkish, where
+   *     {@code i} is the lower case of the dotted capital I rather than of {@code I}
+   */
+  public static ScoringTable compile(List<ScoringRuleDTO> rules, Locale locale) {
+    int[] points = new int[TABLE_SIZE];
+    boolean perLetter = foldsAsciiLikeEnglish(locale);
+    TileTrie trie = new TileTrie();
+    Map<Character, Character> folds = new TreeMap<>();
+    for (ScoringRuleDTO rule : rules) {
+      for (String tile : tiles(rule)) {
+        String upperCase = tile.toUpperCase(locale);
+        if (upperCase.isBlank()) {
+          throw new IllegalArgumentException("Scoring tiles must not be blank.");
+        }
+        trie.put(upperCase, rule.getPoints());
+        addFolds(upperCase, locale, folds);
+        String decomposed = Normalizer.normalize(upperCase, Normalizer.Form.NFD);
+        if (!decomposed.equals(upperCase)) {
+          trie.put(decomposed, rule.getPoints());
+          addFolds(decomposed, locale, folds);
+        }
+
+        if (upperCase.length() == 1) {
+          putAscii(points, upperCase, rule.getPoints());
+          putAscii(points, upperCase.toLowerCase(locale), rule.getPoints());
+        }
+        if (upperCase.length() != 1 || upperCase.charAt(0) >= TABLE_SIZE) {
+          perLetter = false;
+        }
+      }
+    }
+    return new ScoringTable(points, perLetter, trie, folds);
+  }
+
+  /**
+   * Whether every tile is a single ASCII letter, so that a word scores the sum of {@link
+   * #score(char)} over its letters.
+   */
+  public boolean isPerLetter() {
+    return perLetter;
+  }
+
+  /**
+   * Returns a bit mask of the letters A to Z scored differently by the two tables, bit 0 standing
+   * for A. When either table has multi-letter tiles, every letter counts as changed.
+   */
+  public int changedLetters(ScoringTable other) {
+    if (this == other) {
+      return 0;
+    }
+    if (!perLetter || !other.perLetter) {
+      return ALL_LETTERS;
+    }
+    int mask = 0;
+    for (char letter = 'A'; letter <= 'Z'; letter++) {
+      if (points[letter] != other.points[letter]) {
+        mask |= 1 << (letter - 'A');
+      }
+    }
+    return mask;
+  }
+
+  public int score(char letter) {
+    if (letter < TABLE_SIZE) {
+      return points[letter];
+    }
+    if (perLetter) {
+      return 0;
+    }
+    int node = step(0, letter);
+    return node >= 0 ? Math.max(tilePoints[node], 0) : 0;
+  }
+
+  public int score(CharSequence letters) {
+    if (letters == null) {
+      return 0;
+    }
+    if (!perLetter) {
+      return scoreTiles(letters, 0, letters.length());
+    }
+    int total = 0;
+    for (int i = 0, length = letters.length(); i < length; i++) {
+      char letter = letters.charAt(i);
+      if (letter < TABLE_SIZE) {
+        total += points[letter];
+      }
+    }
+    return total;
+  }
+
+  public int score(char[] letters, int offset, int length) {
+    if (!perLetter) {
+      return scoreTiles(CharBuffer.wrap(letters), offset, offset + length);
+    }
+    int total = 0;
+    for (int i = offset, end = offset + length; i < end; i++) {
+      char letter = letters[i];
+      if (letter < TABLE_SIZE) {
+        total += points[letter];
+      }
+    }
+    return total;
+  }
+
+  public int score(byte[] letters) {
+    return letters == null ? 0 : score(letters, 0, letters.length);
+  }
+
+  /**
+   * Scores ASCII or UTF-8 encoded letters. Bytes of multi-byte sequences are negative and never
+   * match a rule letter, unless the rule set has tiles beyond ASCII, in which case the input is
+   * decoded as it is walked.
+   */
+  public int score(byte[] letters, int offset, int length) {
+    if (!perLetter) {
+      return scoreUtf8Tiles(letters, offset, offset + length);
+    }
+    int total = 0;
+    for (int i = offset, end = offset + length; i < end; i++) {
+      byte letter = letters[i];
+      if (letter >= 0) {
+        total += points[letter];
+      }
+    }
+    return total;
+  }
+
+  private int scoreTiles(CharSequence letters, int from, int to) {
+    int total = 0;
+    int position = from;
+    while (position < to) {
+      int matchedPoints = 0;
+      int matchedEnd = position + 1;
+      int node = 0;
+      int i = position;
+      while (i < to) {
+        node = step(node, letters.charAt(i++));
+        if (node < 0) {
+          break;
+        }
+        if (tilePoints[node] != NO_TILE) {
+          matchedPoints = tilePoints[node];
+          matchedEnd = i;
+        }
+      }
+      total += matchedPoints;
+      position = matchedEnd;
+    }
+    return total;
+  }
+
+  private int scoreUtf8Tiles(byte[] letters, int from, int to) {
+    int total = 0;
+    int position = from;
+    while (position < to) {
+      int matchedPoints = 0;
+      int matchedEnd = position + (decode(letters, position, to) & 7);
+      int node = 0;
+      int i = position;
+      while (i < to) {
+        int decoded = decode(letters, i, to);
+        node = step(node, (char) (decoded >>> 3));
+        if (node < 0) {
+          break;
+        }
+        i += decoded & 7;
+        if (tilePoints[node] != NO_TILE) {
+          matchedPoints = tilePoints[node];
+          matchedEnd = i;
+        }
+      }
+      total += matchedPoints;
+      position = matchedEnd;
+    }
+    return total;
+  }
+
+  /** Follows the edge for {@code c} out of {@code node}, or returns -1 when there is none. */
+  private int step(int node, char c) {
+    int index = Arrays.binarySearch(labels[node], fold(c));
+    return index >= 0 ? targets[node][index] : -1;
+  }
+
+  private char fold(char c) {
+    if (c < TABLE_SIZE) {
+      return asciiFolds[c];
+    }
+    int index = Arrays.binarySearch(foldKeys, c);
+    return index >= 0 ? foldValues[index] : c;
+  }
+
+  /**
+   * Decodes the UTF-8 sequence at {@code position} into its character shifted left by 3, or'ed
+   * with the sequence length. Malformed bytes and characters outside the BMP, which no tile holds,
+   * decode as U+FFFD.
+   */
+  private static int decode(byte[] bytes, int position, int end) {
+    int first = bytes[position] & 0xFF;
+    if (first < 0x80) {
+      return first << 3 | 1;
+    }
+    int length = first >= 0xF0 ? 4 : first >= 0xE0 ? 3 : first >= 0xC0 ? 2 : 1;
+    if (length == 1 || position + length > end) {
+      return REPLACEMENT << 3 | 1;
+    }
+    int c = first & (0x7F >> length);
+    for (int i = 1; i < length; i++) {
+      int next = bytes[position + i] & 0xFF;
+      if ((next & 0xC0) != 0x80) {
+        return REPLACEMENT << 3 | 1;
+      }
+      c = c << 6 | next & 0x3F;
+    }
+    return (length == 4 ? REPLACEMENT : c) << 3 | length;
+  }
+
+  /** The single-character tiles of {@code letters} followed by the multi-character tiles. */
+  private static List<String> tiles(ScoringRuleDTO rule) {
+    List<String> tiles = new ArrayList<>();
+    String letters = rule.getLetters();
+    if (letters != null) {
+      for (int i = 0; i < letters.length(); i++) {
+        char letter = letters.charAt(i);
+        if (Character.isSurrogate(letter)) {
+          throw new IllegalArgumentException(
+              "Scoring letters must be in the Basic Multilingual Plane.");
+        }
+        tiles.add(String.valueOf(letter));
+      }
+    }
+    if (rule.getTiles() != null) {
+      tiles.addAll(rule.getTiles());
+    }
+    return tiles;
+  }
+
+  private static void putAscii(int[] points, String letter, int letterPoints) {
+    if (letter.length() == 1 && letter.charAt(0) < TABLE_SIZE) {
+      points[letter.charAt(0)] = letterPoints;
+    }
+  }
+
+  /** Maps every character of the upper case tile, and its lower case form, to itself. */
+  private static void addFolds(String upperCase, Locale locale, Map<Character, Character> folds) {
+    for (int i = 0; i < upperCase.length(); i++) {
+      char upper = upperCase.charAt(i);
+      folds.put(upper, upper);
+      String lowerCase = String.valueOf(upper).toLowerCase(locale);
+      if (lowerCase.length() == 1) {
+        folds.put(lowerCase.charAt(0), upper);
+      }
+    }
+  }
+
+  private static boolean foldsAsciiLikeEnglish(Locale locale) {
+    String lowerCase = "abcdefghijklmnopqrstuvwxyz";
+    String upperCase = "ABCDEFGHIJKLMNOPQRSTUVWXYZ";
+    return lowerCase.toUpperCase(locale).equals(upperCase)
+        && upperCase.toLowerCase(locale).equals(lowerCase);
+  }
+
+  /** Mutable trie collecting the tiles before they are flattened into arrays. */
+  private static final class TileTrie {
+    private final List<TreeMap<Character, Integer>> children = new ArrayList<>();
+    private final List<Integer> points = new ArrayList<>();
+
+    private TileTrie() {
+      addNode();
+    }
+
+    private void put(String tile, int tilePoints) {
+      int node = 0;
+      for (int i = 0; i < tile.length(); i++) {
+        Integer child = children.get(node).get(tile.charAt(i));
+        if (child == null) {
+          child = addNode();
+          children.get(node).put(tile.charAt(i), child);
+        }
+        node = child;
+      }
+      points.set(node, tilePoints);
+    }
+
+    private int addNode() {
+      children.add(new TreeMap<>());
+      points.add(NO_TILE);
+      return children.size() - 1;
+    }
+  }
+}
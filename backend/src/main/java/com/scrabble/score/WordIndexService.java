@@ -0,0 +1,12 @@
+package com.scrabble.score;
+
+import com.scrabble.score.dto.WordScorePageDTO;
+
+public interface WordIndexService {
+  /**
+   * Returns a page of dictionary words whose score and length fall within the given inclusive
+   * bounds, by score descending, then length, then alphabetically. A {@code null} bound is open.
+   */
+  WordScorePageDTO findWords(
+      Integer minScore, Integer maxScore, Integer minLength, Integer maxLength, int page, int size);
+}
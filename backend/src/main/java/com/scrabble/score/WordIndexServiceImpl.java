@@ -0,0 +1,129 @@
+package com.scrabble.score;
+
+import com.scrabble.dictionary.DictionaryService;
+import com.scrabble.dictionary.Lexicon;
+import com.scrabble.score.dto.WordScoreDTO;
+import com.scrabble.score.dto.WordScorePageDTO;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * Answers word range queries from a {@link ScoreIndex} built on first use. When the scoring rules
+ * change, the next query derives a new index from the current one, rescoring only the affected
+ * words.
+ */
+@Service
+@Slf4j
+public class WordIndexServiceImpl implements WordIndexService {
+  static final int MAX_PAGE_SIZE = 100;
+
+  private final DictionaryService dictionaryService;
+  private final ScoringRulesService scoringRulesService;
+  private final ReentrantLock buildLock = new ReentrantLock();
+  private volatile ScoreIndex index;
+
+  public WordIndexServiceImpl(
+      DictionaryService dictionaryService, ScoringRulesService scoringRulesService) {
+    this.dictionaryService = dictionaryService;
+    this.scoringRulesService = scoringRulesService;
+  }
+
+  @Override
+  public WordScorePageDTO findWords(
+      Integer minScore,
+      Integer maxScore,
+      Integer minLength,
+      Integer maxLength,
+      int page,
+      int size) {
+    if (page < 0) {
+      throw new IllegalArgumentException("Page index must not be negative.");
+    }
+    if (size < 1 || size > MAX_PAGE_SIZE) {
+      throw new IllegalArgumentException(
+          String.format("Page size must be between 1 and %d.", MAX_PAGE_SIZE));
+    }
+    int lowScore = lowerBound(minScore, "Minimum score");
+    int highScore = upperBound(maxScore, lowScore, "Maximum score", "minimum score");
+    int lowLength = lowerBound(minLength, "Minimum length");
+    int highLength = upperBound(maxLength, lowLength, "Maximum length", "minimum length");
+
+    ScoreIndex current = currentIndex();
+    int total = current.count(lowScore, highScore, lowLength, highLength);
+    long offset = (long) page * size;
+    List<WordScoreDTO> items = new ArrayList<>();
+    if (offset < total) {
+      int[] words = current.find(lowScore, highScore, lowLength, highLength, (int) offset, size);
+      for (int word : words) {
+        items.add(
+            WordScoreDTO.builder()
+                .word(current.lexicon().word(word))
+                .score(current.score(word))
+                .build());
+      }
+    }
+
+    return WordScorePageDTO.builder().items(items).total(total).build();
+  }
+
+  private ScoreIndex currentIndex() {
+    Lexicon lexicon = dictionaryService.getLexicon();
+    ScoringTable scoringTable = scoringRulesService.getScoringTable();
+    ScoreIndex current = index;
+    if (isCurrent(current, lexicon, scoringTable)) {
+      return current;
+    }
+
+    buildLock.lock();
+    try {
+      current = index;
+      if (isCurrent(current, lexicon, scoringTable)) {
+        return current;
+      }
+      long startTime = System.nanoTime();
+      if (current != null && current.lexicon() == lexicon) {
+        current = current.rescore(scoringTable);
+      } else {
+        current = ScoreIndex.build(lexicon, scoringTable);
+      }
+      index = current;
+      log.info(
+          "Indexed {} words by score in {} ms",
+          lexicon.size(),
+          (System.nanoTime() - startTime) / 1_000_000);
+      return current;
+    } finally {
+      buildLock.unlock();
+    }
+  }
+
+  private static boolean isCurrent(
+      ScoreIndex current, Lexicon lexicon, ScoringTable scoringTable) {
+    return current != null
+        && current.lexicon() == lexicon
+        && current.scoringTable() == scoringTable;
+  }
+
+  private static int lowerBound(Integer value, String name) {
+    if (value == null) {
+      return 0;
+    }
+    if (value < 0) {
+      throw new IllegalArgumentException(name + " must not be negative.");
+    }
+    return value;
+  }
+
+  private static int upperBound(Integer value, int lowerBound, String name, String lowerName) {
+    if (value == null) {
+      return Integer.MAX_VALUE;
+    }
+    if (value < lowerBound) {
+      throw new IllegalArgumentException(name + " must not be below the " + lowerName + ".");
+    }
+    return value;
+  }
+}
@@ -0,0 +1,38 @@
+package com.scrabble.score.dto;
+
+import com.scrabble.board.Direction;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class MoveDTO {
+  /** 15 rows of 15 squares: a letter per tile, lower case for a blank, {@code .} when empty. */
+  @NotNull(message = "Board field is required")
+  @Size(min = 15, max = 15, message = "Board must have 15 rows")
+  private List<String> board;
+
+  @NotNull(message = "Row field is required")
+  @Min(value = 0, message = "Row must be between 0 and 14")
+  @Max(value = 14, message = "Row must be between 0 and 14")
+  private Integer row;
+
+  @NotNull(message = "Column field is required")
+  @Min(value = 0, message = "Column must be between 0 and 14")
+  @Max(value = 14, message = "Column must be between 0 and 14")
+  private Integer column;
+
+  @NotNull(message = "Direction field is required")
+  private Direction direction;
+
+  /** The whole word formed, including tiles already on the board; lower case for blanks. */
+  @NotBlank(message = "Word field is required and cannot be empty")
+  @Size(max = 15, message = "Word cannot exceed 15 letters")
+  private String word;
+}
@@ -0,0 +1,17 @@
+package com.scrabble.score.dto;
+
+import java.util.List;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class MoveScoreDTO {
+  private Integer score;
+
+  /** The main word first, then the cross-words. */
+  private List<WordScoreDTO> words;
+
+  private Integer tilesPlaced;
+  private Boolean bingo;
+}
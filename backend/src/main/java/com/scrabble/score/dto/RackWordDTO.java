@@ -0,0 +1,13 @@
+package com.scrabble.score.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class RackWordDTO {
+  /** The word in upper case, with letters played from a blank tile in lower case. */
+  private String word;
+
+  private Integer score;
+}
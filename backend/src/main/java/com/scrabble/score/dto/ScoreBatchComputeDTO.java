@@ -0,0 +1,11 @@
+package com.scrabble.score.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class ScoreBatchComputeDTO {
+  /** Scores in the same order as the requested letters. */
+  private int[] scores;
+}
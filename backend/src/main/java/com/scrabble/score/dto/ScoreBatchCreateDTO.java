@@ -0,0 +1,19 @@
+package com.scrabble.score.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class ScoreBatchCreateDTO {
+  @NotEmpty(message = "Letters list is required and cannot be empty")
+  @Size(max = 10000, message = "Batch cannot exceed 10000 entries")
+  private List<
+          @NotBlank(message = "Letters field is required and cannot be empty")
+          @Size(max = 10, message = "Letters cannot exceed 10 characters") String>
+      letters;
+}
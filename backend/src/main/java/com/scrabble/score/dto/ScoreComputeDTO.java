@@ -1,5 +1,6 @@
 package com.scrabble.score.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Builder;
 import lombok.Data;
 
@@ -8,4 +9,8 @@ import lombok.Data;
 public class ScoreComputeDTO {
   private String letters;
   private Integer score;
+
+  /** Whether the letters form a dictionary word; only present when validation was requested. */
+  @JsonInclude(JsonInclude.Include.NON_NULL)
+  private Boolean valid;
 }
@@ -0,0 +1,11 @@
+package com.scrabble.score.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class ScoreDeleteDTO {
+  /** Number of scores removed; ids that did not exist are not counted. */
+  private int deleted;
+}
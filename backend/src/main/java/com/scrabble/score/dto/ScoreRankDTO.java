@@ -0,0 +1,25 @@
+package com.scrabble.score.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.util.UUID;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class ScoreRankDTO {
+  /** The saved score ranked, absent when ranking a point value. */
+  @JsonInclude(JsonInclude.Include.NON_NULL)
+  private UUID id;
+
+  private Integer points;
+
+  /** 1 plus the number of scores with more points; equal scores share a rank. */
+  private Long rank;
+
+  /** Number of saved scores. */
+  private Long total;
+
+  /** Percentage of saved scores with at most these points, to two decimals. */
+  private Double percentile;
+}
@@ -1,5 +1,7 @@
 package com.scrabble.score.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.util.List;
 import lombok.Builder;
 import lombok.Data;
 
@@ -7,5 +9,11 @@ import lombok.Data;
 @Builder
 public class ScoringRuleDTO {
   private Integer points;
+
+  /** Single-letter tiles, one per character. */
   private String letters;
+
+  /** Tiles of more than one letter, such as the Spanish {@code CH}. */
+  @JsonInclude(JsonInclude.Include.NON_EMPTY)
+  private List<String> tiles;
 }
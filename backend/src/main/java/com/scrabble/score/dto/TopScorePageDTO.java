@@ -0,0 +1,14 @@
+package com.scrabble.score.dto;
+
+import java.util.List;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class TopScorePageDTO {
+  private List<TopScoreDTO> items;
+
+  /** Opaque cursor for the next page, or {@code null} on the last page. */
+  private String nextCursor;
+}
@@ -0,0 +1,11 @@
+package com.scrabble.score.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class WordScoreDTO {
+  private String word;
+  private Integer score;
+}
@@ -0,0 +1,14 @@
+package com.scrabble.score.dto;
+
+import java.util.List;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class WordScorePageDTO {
+  private List<WordScoreDTO> items;
+
+  /** Number of matching words across all pages. */
+  private long total;
+}
@@ -0,0 +1,50 @@
+-- Scores are range-partitioned by the month of created_at, so retention can detach whole months
+-- instead of deleting rows, and queries on a time window only scan the months in it.
+-- ScorePartitionJob keeps partitions created ahead of time; this migration creates those
+-- holding existing rows and the next three months. A schema created by Hibernate (ddl-auto) is
+-- converted in place.
+
+DO $$
+DECLARE
+  first_month date := date_trunc('month', now());
+  partition_month date;
+BEGIN
+  IF to_regclass('scores') IS NOT NULL THEN
+    ALTER TABLE scores RENAME TO scores_legacy;
+    ALTER INDEX IF EXISTS idx_scores_leaderboard RENAME TO idx_scores_legacy_leaderboard;
+    ALTER INDEX IF EXISTS scores_pkey RENAME TO scores_legacy_pkey;
+    EXECUTE 'SELECT least(date_trunc(''month'', min(created_at)), $1) FROM scores_legacy'
+      INTO first_month USING first_month;
+  END IF;
+
+  -- The primary key of a partitioned table must include the partition key
+  CREATE TABLE scores (
+    id uuid NOT NULL,
+    letters varchar(255) NOT NULL,
+    points integer NOT NULL,
+    created_at timestamp(6) NOT NULL,
+    PRIMARY KEY (id, created_at)
+  ) PARTITION BY RANGE (created_at);
+
+  CREATE INDEX idx_scores_leaderboard ON scores (points DESC, created_at DESC, id DESC);
+
+  -- Catches rows outside the monthly partitions, for example if maintenance has not run for months
+  CREATE TABLE scores_default PARTITION OF scores DEFAULT;
+
+  partition_month := first_month;
+  WHILE partition_month <= date_trunc('month', now()) + interval '3 months' LOOP
+    EXECUTE format(
+      'CREATE TABLE %I PARTITION OF scores FOR VALUES FROM (%L) TO (%L)',
+      'scores_p' || to_char(partition_month, 'YYYYMM'),
+      partition_month,
+      partition_month + interval '1 month');
+    partition_month := partition_month + interval '1 month';
+  END LOOP;
+
+  IF to_regclass('scores_legacy') IS NOT NULL THEN
+    INSERT INTO scores (id, letters, points, created_at)
+      SELECT id, letters, points, created_at FROM scores_legacy;
+    DROP TABLE scores_legacy;
+  END IF;
+END
+$$;
@@ -0,0 +1,52 @@
+package com.scrabble;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+/** Checks the settings the edge profile resolves to, without starting the application. */
+class EdgeProfileTest {
+
+  @Test
+  void edgeProfile_ShouldKeepItsConnectionLimitsAndEnableVirtualThreads() {
+    // Act
+    try (ConfigurableApplicationContext context = run("edge")) {
+      Environment environment = context.getEnvironment();
+
+      // Assert
+      assertEquals("true", environment.getProperty("spring.threads.virtual.enabled"));
+      assertEquals("50000", environment.getProperty("server.tomcat.max-connections"));
+      assertEquals("2000", environment.getProperty("server.tomcat.accept-count"));
+      assertEquals("10", environment.getProperty("spring.datasource.hikari.maximum-pool-size"));
+      assertEquals("2", environment.getProperty("spring.datasource.hikari.minimum-idle"));
+      assertEquals("false", environment.getProperty("spring.jpa.open-in-view"));
+    }
+  }
+
+  @Test
+  void virtualThreadsProfile_ShouldKeepItsOwnLimits() {
+    // Act
+    try (ConfigurableApplicationContext context = run("virtual-threads")) {
+      Environment environment = context.getEnvironment();
+
+      // Assert
+      assertEquals("true", environment.getProperty("spring.threads.virtual.enabled"));
+      assertEquals("10000", environment.getProperty("server.tomcat.max-connections"));
+      assertEquals("20", environment.getProperty("spring.datasource.hikari.maximum-pool-size"));
+    }
+  }
+
+  private static ConfigurableApplicationContext run(String profile) {
+    return new SpringApplicationBuilder(EmptyConfiguration.class)
+        .web(WebApplicationType.NONE)
+        .run("--spring.profiles.active=" + profile);
+  }
+
+  @Configuration(proxyBeanMethods = false)
+  static class EmptyConfiguration {}
+}
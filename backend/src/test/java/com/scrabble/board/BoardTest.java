@@ -0,0 +1,56 @@
+package com.scrabble.board;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class BoardTest {
+
+  @Test
+  void parse_ShouldPlaceTilesAndBlanks() {
+    List<String> rows = new ArrayList<>(Collections.nCopies(Board.SIZE, "..............."));
+    rows.set(7, "......CaT......");
+    rows.set(14, "..............Z");
+
+    Board board = Board.parse(rows);
+
+    assertEquals(4, board.tileCount());
+    assertFalse(board.isEmpty());
+    assertEquals('C', board.tileAt(Board.square(7, 6)));
+    assertEquals('a', board.tileAt(Board.square(7, 7)));
+    assertTrue(board.isBlank(Board.square(7, 7)));
+    assertFalse(board.isBlank(Board.square(7, 8)));
+    assertTrue(board.isOccupied(Board.SQUARES - 1));
+    assertFalse(board.isOccupied(Board.square(7, 9)));
+    assertEquals(1L << (Board.SQUARES - 1 - 3 * Long.SIZE), board.occupancy()[3]);
+  }
+
+  @Test
+  void empty_ShouldHaveNoTiles() {
+    assertTrue(Board.empty().isEmpty());
+    assertEquals(0, Board.empty().tileCount());
+  }
+
+  @Test
+  void parse_ShouldRejectWrongDimensions() {
+    List<String> rows = Collections.nCopies(Board.SIZE, "..............");
+
+    IllegalArgumentException exception =
+        assertThrows(IllegalArgumentException.class, () -> Board.parse(rows));
+    assertEquals("The board must have 15 rows of 15 squares.", exception.getMessage());
+  }
+
+  @Test
+  void parse_ShouldRejectUnknownSquares() {
+    List<String> rows = new ArrayList<>(Collections.nCopies(Board.SIZE, "..............."));
+    rows.set(0, "3..............");
+
+    assertThrows(IllegalArgumentException.class, () -> Board.parse(rows));
+  }
+}
@@ -0,0 +1,117 @@
+package com.scrabble.board;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.scrabble.board.MoveScorer.MoveScore;
+import com.scrabble.board.MoveScorer.ScoredWord;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class MoveScorerTest {
+
+  private static final int[] LETTER_POINTS = {
+    1, 3, 3, 2, 1, 4, 2, 4, 1, 8, 6, 1, 3, 1, 1, 3, 10, 1, 1, 1, 1, 4, 4, 8, 4, 10
+  };
+
+  /** CAT across the centre of row 7, in columns 6 to 8. */
+  private final Board board = boardWithRow(7, "......CAT......");
+
+  @Test
+  void score_FirstMove_ShouldDoubleWordOnCentreSquare() {
+    // Act
+    MoveScore result =
+        MoveScorer.score(Board.empty(), 7, 6, Direction.ACROSS, "CAT", LETTER_POINTS);
+
+    // Assert
+    assertEquals(10, result.score());
+    assertEquals(List.of(new ScoredWord("CAT", 10)), result.words());
+    assertEquals(3, result.tilesPlaced());
+    assertFalse(result.bingo());
+  }
+
+  @Test
+  void score_ShouldApplyLetterPremiumOnlyToNewTiles() {
+    // Act: H on a plain square, A on a double letter, T already on the board
+    MoveScore result = MoveScorer.score(board, 5, 8, Direction.DOWN, "HAT", LETTER_POINTS);
+
+    // Assert
+    assertEquals(7, result.score());
+    assertEquals(2, result.tilesPlaced());
+  }
+
+  @Test
+  void score_ShouldAddCrossWords() {
+    // Act: A under the A of CAT, X on a double letter under its T
+    MoveScore result = MoveScorer.score(board, 8, 7, Direction.ACROSS, "AX", LETTER_POINTS);
+
+    // Assert
+    assertEquals(
+        List.of(new ScoredWord("AX", 17), new ScoredWord("AA", 2), new ScoredWord("TX", 17)),
+        result.words());
+    assertEquals(36, result.score());
+  }
+
+  @Test
+  void score_WithSevenTiles_ShouldAddBingoBonusAndScoreBlanksAsZero() {
+    // Act
+    MoveScore result =
+        MoveScorer.score(Board.empty(), 7, 1, Direction.ACROSS, "QUIZZEs", LETTER_POINTS);
+
+    // Assert
+    assertEquals(68 + MoveScorer.BINGO_BONUS, result.score());
+    assertEquals("QUIZZEs", result.words().get(0).word());
+    assertTrue(result.bingo());
+  }
+
+  @Test
+  void score_ShouldKeepBlanksOnTheBoardAtZero() {
+    // Arrange
+    Board withBlank = boardWithRow(7, "......CaT......");
+
+    // Act
+    MoveScore result = MoveScorer.score(withBlank, 7, 6, Direction.ACROSS, "CATS", LETTER_POINTS);
+
+    // Assert
+    assertEquals(new ScoredWord("CaTS", 5), result.words().get(0));
+  }
+
+  @ParameterizedTest(name = "{2} at row {0}, column {1} should be rejected: {3}")
+  @CsvSource({
+    "7, 0, CA, The move must connect to the tiles on the board.",
+    "7, 7, XX, The word must include the tiles directly before and after it.",
+    "7, 6, CAT, The move must place at least one tile.",
+    "7, 14, AB, The word does not fit on the board.",
+    "7, 5, XCOT, '''O'' does not match the tile ''A'' at row 7, column 7.'",
+    "6, 6, A1, The word must consist of letters only.",
+    "6, 6, A, A word must be at least two letters long."
+  })
+  void score_ShouldRejectIllegalPlacements(int row, int column, String word, String message) {
+    IllegalArgumentException exception =
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> MoveScorer.score(board, row, column, Direction.ACROSS, word, LETTER_POINTS));
+    assertEquals(message, exception.getMessage());
+  }
+
+  @Test
+  void score_FirstMoveOffCentre_ShouldBeRejected() {
+    IllegalArgumentException exception =
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> MoveScorer.score(Board.empty(), 0, 0, Direction.ACROSS, "ZA", LETTER_POINTS));
+    assertEquals("The first move must cover the centre square.", exception.getMessage());
+  }
+
+  private static Board boardWithRow(int row, String squares) {
+    List<String> rows = new ArrayList<>(Collections.nCopies(Board.SIZE, "..............."));
+    rows.set(row, squares);
+    return Board.parse(rows);
+  }
+}
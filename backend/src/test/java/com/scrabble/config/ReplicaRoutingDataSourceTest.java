@@ -0,0 +1,152 @@
+package com.scrabble.config;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@ExtendWith(MockitoExtension.class)
+class ReplicaRoutingDataSourceTest {
+
+  @Mock private DataSource primary;
+
+  @Mock private DataSource firstReplica;
+
+  @Mock private DataSource secondReplica;
+
+  private final Connection primaryConnection = mock(Connection.class);
+  private final Connection replicaConnection = mock(Connection.class);
+
+  private ReplicaRoutingDataSource routingDataSource;
+
+  @BeforeEach
+  void setUp() {
+    Map<String, DataSource> replicas = new LinkedHashMap<>();
+    replicas.put("replica-0", firstReplica);
+    replicas.put("replica-1", secondReplica);
+    routingDataSource = new ReplicaRoutingDataSource(primary, replicas, Duration.ofSeconds(5));
+  }
+
+  @AfterEach
+  void tearDown() {
+    TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+  }
+
+  @Test
+  void getConnection_ShouldUsePrimaryOutsideReadOnlyTransactions() throws SQLException {
+    // Arrange
+    routingDataSource.recordLag("replica-0", Duration.ZERO);
+    when(primary.getConnection()).thenReturn(primaryConnection);
+
+    // Act & Assert
+    assertSame(primaryConnection, routingDataSource.getConnection());
+    verify(firstReplica, never()).getConnection();
+  }
+
+  @Test
+  void getConnection_ShouldSpreadReadOnlyTransactionsOverReplicas() throws SQLException {
+    // Arrange
+    TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+    routingDataSource.recordLag("replica-0", Duration.ZERO);
+    routingDataSource.recordLag("replica-1", Duration.ofSeconds(1));
+    Connection otherReplicaConnection = mock(Connection.class);
+    when(firstReplica.getConnection()).thenReturn(replicaConnection);
+    when(secondReplica.getConnection()).thenReturn(otherReplicaConnection);
+
+    // Act & Assert
+    assertSame(replicaConnection, routingDataSource.getConnection());
+    assertSame(otherReplicaConnection, routingDataSource.getConnection());
+    assertSame(replicaConnection, routingDataSource.getConnection());
+  }
+
+  @Test
+  void getConnection_ShouldSkipReplicasBehindMaxLag() throws SQLException {
+    // Arrange
+    TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+    routingDataSource.recordLag("replica-0", Duration.ofSeconds(30));
+    routingDataSource.recordLag("replica-1", null);
+    when(primary.getConnection()).thenReturn(primaryConnection);
+
+    // Act & Assert
+    assertSame(primaryConnection, routingDataSource.getConnection());
+    verify(firstReplica, never()).getConnection();
+    verify(secondReplica, never()).getConnection();
+  }
+
+  @Test
+  void checkReplicas_ShouldServeReadsFromStandbyWithinMaxLag() throws SQLException {
+    // Arrange
+    Connection standbyConnection = givenLagQueryReturns(firstReplica, 0.5);
+    when(secondReplica.getConnection()).thenThrow(new SQLException("Connection refused"));
+    routingDataSource.checkReplicas();
+    TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+    // Act & Assert
+    assertSame(standbyConnection, routingDataSource.getConnection());
+  }
+
+  @Test
+  void checkReplicas_ShouldSkipServerThatIsNotStandby() throws SQLException {
+    // Arrange: the lag query answers NULL outside recovery, on a primary or promoted standby
+    givenLagQueryReturns(firstReplica, null);
+    when(secondReplica.getConnection()).thenThrow(new SQLException("Connection refused"));
+    when(primary.getConnection()).thenReturn(primaryConnection);
+    routingDataSource.checkReplicas();
+    TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+    // Act & Assert
+    assertSame(primaryConnection, routingDataSource.getConnection());
+    verify(firstReplica, times(1)).getConnection();
+  }
+
+  @Test
+  void getConnection_ShouldFallBackToPrimaryWhenReplicaFails() throws SQLException {
+    // Arrange
+    TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+    routingDataSource.recordLag("replica-0", Duration.ZERO);
+    when(firstReplica.getConnection()).thenThrow(new SQLException("Connection refused"));
+    when(primary.getConnection()).thenReturn(primaryConnection);
+
+    // Act & Assert
+    assertSame(primaryConnection, routingDataSource.getConnection());
+    assertSame(primaryConnection, routingDataSource.getConnection());
+    verify(firstReplica).getConnection();
+  }
+
+  /** Answers the lag query on {@code replica} with {@code seconds}, which may be SQL NULL. */
+  private static Connection givenLagQueryReturns(DataSource replica, Double seconds)
+      throws SQLException {
+    Connection connection = mock(Connection.class);
+    Statement statement = mock(Statement.class);
+    ResultSet resultSet = mock(ResultSet.class);
+    ResultSetMetaData metaData = mock(ResultSetMetaData.class);
+    when(replica.getConnection()).thenReturn(connection);
+    when(connection.createStatement()).thenReturn(statement);
+    when(statement.executeQuery(ReplicaRoutingDataSource.LAG_SQL)).thenReturn(resultSet);
+    when(resultSet.next()).thenReturn(true, false);
+    when(resultSet.getMetaData()).thenReturn(metaData);
+    when(metaData.getColumnCount()).thenReturn(1);
+    when(resultSet.getDouble(1)).thenReturn(seconds == null ? 0.0 : seconds);
+    when(resultSet.wasNull()).thenReturn(seconds == null);
+    return connection;
+  }
+}
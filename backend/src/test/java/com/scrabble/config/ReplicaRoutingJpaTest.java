@@ -0,0 +1,147 @@
+package com.scrabble.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.scrabble.score.ScoreProperties;
+import com.scrabble.score.ScoreRepository;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Runs repository reads through {@link ReplicaRoutingDataSource} as the application wires it, with
+ * one H2 database standing in for both the primary and a caught-up replica, and checks which of
+ * the two each read connected to. No test transaction is open, so each read runs in the
+ * transaction the repository gives it.
+ */
+@DataJpaTest
+@ActiveProfiles("ci")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ReplicaRoutingJpaTest {
+
+  private static final Sort LEADERBOARD_SORT =
+      Sort.by(Sort.Direction.DESC, "points", "createdAt", "id");
+
+  @Autowired private ScoreRepository scoreRepository;
+
+  @Autowired private PlatformTransactionManager transactionManager;
+
+  @Autowired private CountingDataSource primaryTarget;
+
+  @Autowired private CountingDataSource replicaTarget;
+
+  @Test
+  void leaderboardAndRankReads_ShouldConnectToReplica() {
+    assertConnectsTo(replicaTarget, () -> scoreRepository.findSliceBy(PageRequest.of(0, 10)));
+    assertConnectsTo(
+        replicaTarget,
+        () ->
+            scoreRepository.findSliceByCreatedAtGreaterThanEqual(
+                LocalDateTime.now().minusDays(1), PageRequest.of(0, 10, LEADERBOARD_SORT)));
+    assertConnectsTo(replicaTarget, () -> scoreRepository.findLeaderboardFirstPage(Limit.of(10)));
+    assertConnectsTo(
+        replicaTarget,
+        () ->
+            scoreRepository.findLeaderboardPageAfter(
+                10, LocalDateTime.now(), UUID.randomUUID(), 10));
+    assertConnectsTo(replicaTarget, () -> scoreRepository.countByPointsGreaterThan(5));
+  }
+
+  @Test
+  void readsInReadWriteTransaction_ShouldConnectToPrimary() {
+    TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+    assertConnectsTo(
+        primaryTarget,
+        () ->
+            transactionTemplate.executeWithoutResult(
+                status -> {
+                  scoreRepository.findLeaderboardFirstPage(Limit.of(10));
+                  scoreRepository.countByPointsGreaterThan(5);
+                }));
+  }
+
+  @Test
+  void writes_ShouldConnectToPrimary() {
+    assertConnectsTo(primaryTarget, () -> scoreRepository.deleteAllMatching(null, 0));
+  }
+
+  private void assertConnectsTo(CountingDataSource target, Runnable work) {
+    primaryTarget.connections.set(0);
+    replicaTarget.connections.set(0);
+
+    work.run();
+
+    CountingDataSource other = target == primaryTarget ? replicaTarget : primaryTarget;
+    assertTrue(target.connections.get() > 0);
+    assertEquals(0, other.connections.get());
+  }
+
+  /** Counts the connections handed out, to tell which target the router picked. */
+  static class CountingDataSource extends DelegatingDataSource {
+    private final AtomicInteger connections = new AtomicInteger();
+
+    CountingDataSource(DataSource target) {
+      super(target);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+      connections.incrementAndGet();
+      return super.getConnection();
+    }
+  }
+
+  @TestConfiguration
+  @EnableConfigurationProperties(ScoreProperties.class)
+  static class Config {
+    private static final String URL = "jdbc:h2:mem:routing;DB_CLOSE_DELAY=-1";
+
+    @Bean
+    CountingDataSource primaryTarget() {
+      return new CountingDataSource(new DriverManagerDataSource(URL, "sa", ""));
+    }
+
+    @Bean
+    CountingDataSource replicaTarget() {
+      return new CountingDataSource(new DriverManagerDataSource(URL, "sa", ""));
+    }
+
+    /** Wired like {@link ReplicaRoutingConfig#dataSource}, with the replica already caught up. */
+    @Bean
+    @Primary
+    DataSource dataSource(CountingDataSource primaryTarget, CountingDataSource replicaTarget) {
+      ReplicaRoutingDataSource routingDataSource =
+          new ReplicaRoutingDataSource(
+              primaryTarget, Map.of("replica-0", replicaTarget), Duration.ofSeconds(5));
+      routingDataSource.recordLag("replica-0", Duration.ZERO);
+      return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+  }
+}
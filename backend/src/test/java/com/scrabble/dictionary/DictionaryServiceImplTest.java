@@ -0,0 +1,75 @@
+package com.scrabble.dictionary;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class DictionaryServiceImplTest {
+
+  @TempDir private Path tempDir;
+
+  @Test
+  void isValid_ShouldCheckWordsFromConfiguredFile() throws IOException {
+    // Arrange
+    Path wordList = Files.write(tempDir.resolve("words.txt"), List.of("hello", "quiz"));
+    DictionaryProperties properties = new DictionaryProperties();
+    properties.setPath(wordList.toString());
+
+    // Act
+    DictionaryService dictionaryService = new DictionaryServiceImpl(properties);
+
+    // Assert
+    assertTrue(dictionaryService.isAvailable());
+    assertTrue(dictionaryService.isValid("HELLO"));
+    assertTrue(dictionaryService.isValid("Quiz"));
+    assertFalse(dictionaryService.isValid("QZXJ"));
+  }
+
+  @Test
+  void isValid_ShouldCheckWordsFromBinaryLexicon() throws IOException {
+    // Arrange
+    Path wordList = Files.write(tempDir.resolve("words.txt"), List.of("hello", "quiz"));
+    Path binary = tempDir.resolve("words.lex");
+    LexiconWriter.convert(wordList, binary);
+    DictionaryProperties properties = new DictionaryProperties();
+    properties.setPath(binary.toString());
+
+    // Act
+    DictionaryService dictionaryService = new DictionaryServiceImpl(properties);
+
+    // Assert
+    assertTrue(dictionaryService.isValid("hello"));
+    assertFalse(dictionaryService.isValid("world"));
+  }
+
+  @Test
+  void isValid_ShouldRejectValidationWhenNoDictionaryIsConfigured() {
+    // Arrange
+    DictionaryService dictionaryService = new DictionaryServiceImpl(new DictionaryProperties());
+
+    // Act & Assert
+    assertFalse(dictionaryService.isAvailable());
+    IllegalArgumentException exception =
+        assertThrows(IllegalArgumentException.class, () -> dictionaryService.isValid("HELLO"));
+    assertEquals("No dictionary is configured.", exception.getMessage());
+  }
+
+  @Test
+  void constructor_ShouldFailWhenConfiguredFileIsMissing() {
+    // Arrange
+    DictionaryProperties properties = new DictionaryProperties();
+    properties.setPath(tempDir.resolve("missing.txt").toString());
+
+    // Act & Assert
+    assertThrows(UncheckedIOException.class, () -> new DictionaryServiceImpl(properties));
+  }
+}
@@ -0,0 +1,122 @@
+package com.scrabble.dictionary;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class LexiconTest {
+
+  @TempDir private Path tempDir;
+
+  private final Lexicon lexicon = Lexicon.of(List.of("quiz", "AA", "Hello", "HELL", "zebra"));
+
+  @ParameterizedTest(name = "{0} should be contained")
+  @ValueSource(strings = {"QUIZ", "quiz", "aa", "Hello", "hell", "ZEBRA"})
+  void contains_ShouldIgnoreCase(String word) {
+    assertTrue(lexicon.contains(word));
+  }
+
+  @ParameterizedTest(name = "{0} should not be contained")
+  @ValueSource(strings = {"A", "AAA", "HEL", "HELLOS", "QUIZZ", "ZZZ", "", "HELL0", "H\u00c9LL"})
+  void contains_ShouldRejectMissingWordsAndPrefixes(String word) {
+    assertFalse(lexicon.contains(word));
+  }
+
+  @Test
+  void contains_ShouldReturnFalseForNull() {
+    assertFalse(lexicon.contains(null));
+    assertFalse(Lexicon.empty().contains("A"));
+  }
+
+  @Test
+  void of_ShouldDropDuplicatesAndNonLetterWords() {
+    Lexicon result = Lexicon.of(List.of("cat", "CAT", "Cat", "c-a-t", "dog", ""));
+
+    assertEquals(2, result.size());
+    assertTrue(result.contains("cat"));
+    assertTrue(result.contains("dog"));
+  }
+
+  @Test
+  void read_ShouldSkipBlankAndCommentLines() throws IOException {
+    String wordList = "# sample word list\r\nquiz\n\n  jazz  \nit's\nQUIZ\n";
+
+    Lexicon result =
+        Lexicon.read(new ByteArrayInputStream(wordList.getBytes(StandardCharsets.UTF_8)));
+
+    assertEquals(2, result.size());
+    assertTrue(result.contains("QUIZ"));
+    assertTrue(result.contains("JAZZ"));
+    assertEquals(8 + 3 * Integer.BYTES, result.sizeInBytes());
+  }
+
+  @Test
+  void lowerBound_ShouldSplitSharedPrefixRangeByNextLetter() {
+    // Sorted: AA, HELL, HELLO, QUIZ, ZEBRA
+    int from = lexicon.lowerBound(0, lexicon.size(), 0, 'H');
+    int to = lexicon.lowerBound(from, lexicon.size(), 0, 'H' + 1);
+
+    assertEquals(1, from);
+    assertEquals(3, to);
+    assertEquals("HELL", lexicon.word(from));
+    assertEquals(4, lexicon.wordLength(from));
+    assertEquals(-1, lexicon.letterAt(from, 4));
+    assertEquals('O', lexicon.letterAt(from + 1, 4));
+    assertEquals(from + 1, lexicon.lowerBound(from, to, 4, 'A'));
+  }
+
+  @Test
+  void map_ShouldAnswerLookupsFromWrittenFile() throws IOException {
+    Path file = write(lexicon);
+
+    Lexicon mapped = Lexicon.map(file);
+
+    assertTrue(mapped.isMapped());
+    assertTrue(Lexicon.isBinary(file));
+    assertEquals(lexicon.size(), mapped.size());
+    assertEquals(lexicon.sizeInBytes(), mapped.sizeInBytes());
+    for (String word : List.of("QUIZ", "aa", "Hello", "hell", "zebra")) {
+      assertTrue(mapped.contains(word), word);
+    }
+    assertFalse(mapped.contains("HEL"));
+  }
+
+  @Test
+  void map_ShouldRejectPlainWordList() throws IOException {
+    Path file = Files.write(tempDir.resolve("words.txt"), List.of("hello", "quiz"));
+
+    assertFalse(Lexicon.isBinary(file));
+    assertThrows(IOException.class, () -> Lexicon.map(file));
+  }
+
+  @Test
+  void map_ShouldRejectTruncatedFile() throws IOException {
+    Path file = write(lexicon);
+    byte[] bytes = Files.readAllBytes(file);
+    Files.write(file, Arrays.copyOf(bytes, bytes.length - 1));
+
+    assertThrows(IOException.class, () -> Lexicon.map(file));
+  }
+
+  private Path write(Lexicon source) throws IOException {
+    Path file = tempDir.resolve("words.lex");
+    try (OutputStream output = Files.newOutputStream(file)) {
+      source.write(output);
+    }
+    return file;
+  }
+}
@@ -0,0 +1,38 @@
+package com.scrabble.dictionary;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class LexiconWriterTest {
+
+  @TempDir private Path tempDir;
+
+  @Test
+  void convert_ShouldReplaceOutputWithoutLeavingTemporaryFiles() throws IOException {
+    // Arrange
+    Path wordList = Files.write(tempDir.resolve("words.txt"), List.of("quiz", "jazz", "quiz"));
+    Path output = tempDir.resolve("out").resolve("words.lex");
+    Files.createDirectories(output.getParent());
+    Files.writeString(output, "stale");
+
+    // Act
+    Lexicon written = LexiconWriter.convert(wordList, output);
+
+    // Assert
+    assertEquals(2, written.size());
+    Lexicon mapped = Lexicon.map(output);
+    assertTrue(mapped.contains("JAZZ"));
+    assertTrue(mapped.contains("quiz"));
+    try (Stream<Path> files = Files.list(output.getParent())) {
+      assertEquals(List.of(output), files.toList());
+    }
+  }
+}
@@ -5,24 +5,33 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.scrabble.exception.dto.ErrorResponseDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.time.LocalDateTime;
+import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.core.MethodParameter;
 import org.springframework.data.mapping.PropertyReferenceException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.mock.http.MockHttpInputMessage;
 import org.springframework.validation.BeanPropertyBindingResult;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.bind.MissingServletRequestParameterException;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
 class GlobalExceptionHandlerTest {
 
+  private SimpleMeterRegistry meterRegistry;
+
   private GlobalExceptionHandler globalExceptionHandler;
 
   @BeforeEach
   void setUp() {
-    globalExceptionHandler = new GlobalExceptionHandler();
+    meterRegistry = new SimpleMeterRegistry();
+    globalExceptionHandler = new GlobalExceptionHandler(meterRegistry);
   }
 
   @Test
@@ -183,4 +192,63 @@ class GlobalExceptionHandlerTest {
     assertEquals("Bad Request", body.getError());
     assertEquals("", body.getMessage());
   }
+
+  @Test
+  void handlers_ShouldCountRejectedRequestsByReason() {
+    // Arrange
+    MethodArgumentNotValidException validationException =
+        new MethodArgumentNotValidException(
+            org.mockito.Mockito.mock(MethodParameter.class),
+            new BeanPropertyBindingResult(new Object(), "scoreCreateDTO"));
+
+    // Act
+    globalExceptionHandler.handleIllegalArgument(new IllegalArgumentException("first"));
+    globalExceptionHandler.handleIllegalArgument(new IllegalArgumentException("second"));
+    globalExceptionHandler.handleValidationExceptions(validationException);
+
+    // Assert
+    assertEquals(2.0, rejectedCount("invalid_argument"));
+    assertEquals(1.0, rejectedCount("validation_failed"));
+    assertEquals(0.0, rejectedCount("invalid_sort"));
+  }
+
+  @Test
+  void handlers_ShouldReturnBadRequestAndCountMalformedRequests() {
+    // Arrange
+    HttpMessageNotReadableException unreadable =
+        new HttpMessageNotReadableException(
+            "JSON parse error", new MockHttpInputMessage(new byte[0]));
+    MissingServletRequestParameterException missing =
+        new MissingServletRequestParameterException("points", "int");
+    MethodArgumentTypeMismatchException mismatch =
+        new MethodArgumentTypeMismatchException(
+            "abc", UUID.class, "id", org.mockito.Mockito.mock(MethodParameter.class), null);
+
+    // Act
+    ResponseEntity<ErrorResponseDTO> unreadableResponse =
+        globalExceptionHandler.handleUnreadableBody(unreadable);
+    ResponseEntity<ErrorResponseDTO> missingResponse =
+        globalExceptionHandler.handleMissingParameter(missing);
+    ResponseEntity<ErrorResponseDTO> mismatchResponse =
+        globalExceptionHandler.handleInvalidParameter(mismatch);
+
+    // Assert
+    assertEquals(HttpStatus.BAD_REQUEST, unreadableResponse.getStatusCode());
+    assertEquals("Malformed request body", unreadableResponse.getBody().getMessage());
+    assertEquals(HttpStatus.BAD_REQUEST, missingResponse.getStatusCode());
+    assertEquals("Missing required parameter: points", missingResponse.getBody().getMessage());
+    assertEquals(HttpStatus.BAD_REQUEST, mismatchResponse.getStatusCode());
+    assertEquals("Invalid value for parameter: id", mismatchResponse.getBody().getMessage());
+    assertEquals(1.0, rejectedCount("unreadable_body"));
+    assertEquals(1.0, rejectedCount("missing_parameter"));
+    assertEquals(1.0, rejectedCount("invalid_parameter"));
+  }
+
+  private double rejectedCount(String reason) {
+    return meterRegistry
+        .get(GlobalExceptionHandler.REJECTED_METRIC)
+        .tag("reason", reason)
+        .counter()
+        .count();
+  }
 }
@@ -2,7 +2,14 @@ package com.scrabble.logging;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -15,16 +22,19 @@ import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import jakarta.servlet.http.HttpSession;
 import java.io.IOException;
 import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
 
 @ExtendWith(MockitoExtension.class)
 class RequestLoggingFilterTest {
@@ -35,7 +45,7 @@ class RequestLoggingFilterTest {
 
   @Mock private FilterChain filterChain;
 
-  @Mock private HttpSession session;
+  private LoggingProperties loggingProperties;
 
   private RequestLoggingFilter requestLoggingFilter;
 
@@ -44,7 +54,8 @@ class RequestLoggingFilterTest {
 
   @BeforeEach
   void setUp() {
-    requestLoggingFilter = new RequestLoggingFilter();
+    loggingProperties = new LoggingProperties();
+    requestLoggingFilter = new RequestLoggingFilter(loggingProperties);
 
     logger = (Logger) LoggerFactory.getLogger(RequestLoggingFilter.class);
     listAppender = new ListAppender<>();
@@ -59,16 +70,10 @@ class RequestLoggingFilterTest {
   }
 
   @Test
-  void doFilter_ShouldLogRequestAndResponseSuccessfully() throws IOException, ServletException {
+  void doFilter_ShouldLogSingleStructuredLine() throws IOException, ServletException {
     // Arrange
-    when(request.getSession(true)).thenReturn(session);
-    when(session.getId()).thenReturn("SESSION123");
+    stubRequest("GET", "/api/v1/scores", "Mozilla/5.0");
     when(request.getRemoteAddr()).thenReturn("192.168.1.1");
-    when(request.getHeader("User-Agent")).thenReturn("Mozilla/5.0");
-    when(request.getMethod()).thenReturn("GET");
-    when(request.getRequestURI()).thenReturn("/api/v1/scores");
-    when(request.getHeader("X-Forwarded-For")).thenReturn(null);
-    when(request.getHeader("X-Real-IP")).thenReturn(null);
     when(response.getStatus()).thenReturn(200);
 
     // Act
@@ -78,68 +83,47 @@ class RequestLoggingFilterTest {
     verify(filterChain, times(1)).doFilter(request, response);
 
     List<ILoggingEvent> logsList = listAppender.list;
-    assertEquals(2, logsList.size());
+    assertEquals(1, logsList.size());
 
-    // Verify request log
-    ILoggingEvent requestLog = logsList.get(0);
-    assertEquals(Level.INFO, requestLog.getLevel());
+    ILoggingEvent accessLog = logsList.get(0);
+    assertEquals(Level.INFO, accessLog.getLevel());
     assertEquals(
-        "[GET] [/api/v1/scores]\n    Session: SESSION123 | IP: 192.168.1.1 | User-Agent: Mozilla/5.0",
-        requestLog.getFormattedMessage());
-
-    // Verify response log
-    ILoggingEvent responseLog = logsList.get(1);
-    assertEquals(Level.INFO, responseLog.getLevel());
-    String responseMessage = responseLog.getFormattedMessage();
-    assertEquals(
-        "[GET] [/api/v1/scores] RESPONSE\n    Session: SESSION123 | Status: 200 | Duration:",
-        responseMessage.substring(0, responseMessage.lastIndexOf(' ')));
+        "method=GET uri=/api/v1/scores status=200 durationMs=0 requestId=REQ-123"
+            + " ip=192.168.1.1 userAgent=\"Mozilla/5.0\"",
+        withoutDuration(accessLog.getFormattedMessage()));
   }
 
   @Test
   void doFilter_ShouldLogErrorWhenExceptionOccurs() throws IOException, ServletException {
     // Arrange
     RuntimeException testException = new RuntimeException("Test error");
-    when(request.getSession(true)).thenReturn(session);
-    when(session.getId()).thenReturn("SESSION123");
+    stubRequest("POST", "/api/v1/scores", "Mozilla/5.0");
     when(request.getRemoteAddr()).thenReturn("192.168.1.1");
-    when(request.getHeader("User-Agent")).thenReturn("Mozilla/5.0");
-    when(request.getMethod()).thenReturn("POST");
-    when(request.getRequestURI()).thenReturn("/api/v1/scores");
-    when(request.getHeader("X-Forwarded-For")).thenReturn(null);
-    when(request.getHeader("X-Real-IP")).thenReturn(null);
 
     doThrow(testException).when(filterChain).doFilter(request, response);
 
     // Act & Assert
-    try {
-      requestLoggingFilter.doFilter(request, response, filterChain);
-    } catch (RuntimeException e) {
-      assertEquals(testException, e);
-    }
+    RuntimeException thrown =
+        assertThrows(
+            RuntimeException.class,
+            () -> requestLoggingFilter.doFilter(request, response, filterChain));
+    assertEquals(testException, thrown);
 
     List<ILoggingEvent> logsList = listAppender.list;
-    assertEquals(2, logsList.size());
+    assertEquals(1, logsList.size());
 
-    // Verify request log
-    ILoggingEvent requestLog = logsList.get(0);
-    assertEquals(Level.INFO, requestLog.getLevel());
-
-    // Verify error log
-    ILoggingEvent errorLog = logsList.get(1);
+    ILoggingEvent errorLog = logsList.get(0);
     assertEquals(Level.ERROR, errorLog.getLevel());
-    String errorMessage = errorLog.getFormattedMessage();
-    String expectedPrefix = "[POST] [/api/v1/scores] ERROR\n    Session: SESSION123 | Duration:";
-    String expectedSuffix = "ms | Error: Test error";
-    assertEquals(true, errorMessage.startsWith(expectedPrefix));
-    assertEquals(true, errorMessage.endsWith(expectedSuffix));
+    assertEquals(
+        "method=POST uri=/api/v1/scores status=500 durationMs=0 requestId=REQ-123"
+            + " ip=192.168.1.1 userAgent=\"Mozilla/5.0\" error=\"Test error\"",
+        withoutDuration(errorLog.getFormattedMessage()));
   }
 
   @Test
   void doFilter_ShouldHandleXForwardedForHeader() throws IOException, ServletException {
     // Arrange
-    when(request.getSession(true)).thenReturn(session);
-    when(session.getId()).thenReturn("SESSION123");
+    when(request.getHeader("X-Request-Id")).thenReturn("REQ-123");
     when(request.getHeader("X-Forwarded-For")).thenReturn("203.0.113.1, 198.51.100.1");
     when(request.getHeader("User-Agent")).thenReturn("Mozilla/5.0");
     when(request.getMethod()).thenReturn("GET");
@@ -150,18 +134,13 @@ class RequestLoggingFilterTest {
     requestLoggingFilter.doFilter(request, response, filterChain);
 
     // Assert
-    List<ILoggingEvent> logsList = listAppender.list;
-    ILoggingEvent requestLog = logsList.get(0);
-    assertEquals(
-        "[GET] [/api/v1/test]\n    Session: SESSION123 | IP: 203.0.113.1 | User-Agent: Mozilla/5.0",
-        requestLog.getFormattedMessage());
+    assertTrue(listAppender.list.get(0).getFormattedMessage().contains(" ip=203.0.113.1 "));
   }
 
   @Test
   void doFilter_ShouldHandleXRealIPHeader() throws IOException, ServletException {
     // Arrange
-    when(request.getSession(true)).thenReturn(session);
-    when(session.getId()).thenReturn("SESSION123");
+    when(request.getHeader("X-Request-Id")).thenReturn("REQ-123");
     when(request.getHeader("X-Forwarded-For")).thenReturn(null);
     when(request.getHeader("X-Real-IP")).thenReturn("203.0.113.5");
     when(request.getHeader("User-Agent")).thenReturn("Mozilla/5.0");
@@ -173,18 +152,13 @@ class RequestLoggingFilterTest {
     requestLoggingFilter.doFilter(request, response, filterChain);
 
     // Assert
-    List<ILoggingEvent> logsList = listAppender.list;
-    ILoggingEvent requestLog = logsList.get(0);
-    assertEquals(
-        "[GET] [/api/v1/test]\n    Session: SESSION123 | IP: 203.0.113.5 | User-Agent: Mozilla/5.0",
-        requestLog.getFormattedMessage());
+    assertTrue(listAppender.list.get(0).getFormattedMessage().contains(" ip=203.0.113.5 "));
   }
 
   @Test
   void doFilter_ShouldHandleUnknownIPWhenHeadersAreUnknown() throws IOException, ServletException {
     // Arrange
-    when(request.getSession(true)).thenReturn(session);
-    when(session.getId()).thenReturn("SESSION123");
+    when(request.getHeader("X-Request-Id")).thenReturn("REQ-123");
     when(request.getHeader("X-Forwarded-For")).thenReturn("unknown");
     when(request.getHeader("X-Real-IP")).thenReturn("unknown");
     when(request.getRemoteAddr()).thenReturn("192.168.1.1");
@@ -197,102 +171,184 @@ class RequestLoggingFilterTest {
     requestLoggingFilter.doFilter(request, response, filterChain);
 
     // Assert
-    List<ILoggingEvent> logsList = listAppender.list;
-    ILoggingEvent requestLog = logsList.get(0);
-    assertEquals(
-        "[GET] [/api/v1/test]\n    Session: SESSION123 | IP: 192.168.1.1 | User-Agent: Mozilla/5.0",
-        requestLog.getFormattedMessage());
+    assertTrue(listAppender.list.get(0).getFormattedMessage().contains(" ip=192.168.1.1 "));
   }
 
   @Test
   void doFilter_ShouldHandleNullUserAgent() throws IOException, ServletException {
     // Arrange
-    when(request.getSession(true)).thenReturn(session);
-    when(session.getId()).thenReturn("SESSION123");
+    stubRequest("GET", "/api/v1/test", null);
     when(request.getRemoteAddr()).thenReturn("192.168.1.1");
-    when(request.getHeader("User-Agent")).thenReturn(null);
-    when(request.getMethod()).thenReturn("GET");
-    when(request.getRequestURI()).thenReturn("/api/v1/test");
-    when(request.getHeader("X-Forwarded-For")).thenReturn(null);
-    when(request.getHeader("X-Real-IP")).thenReturn(null);
     when(response.getStatus()).thenReturn(200);
 
     // Act
     requestLoggingFilter.doFilter(request, response, filterChain);
 
     // Assert
-    List<ILoggingEvent> logsList = listAppender.list;
-    ILoggingEvent requestLog = logsList.get(0);
-    assertEquals(
-        "[GET] [/api/v1/test]\n    Session: SESSION123 | IP: 192.168.1.1 | User-Agent: N/A",
-        requestLog.getFormattedMessage());
+    assertTrue(listAppender.list.get(0).getFormattedMessage().endsWith(" userAgent=\"N/A\""));
   }
 
   @Test
   void doFilter_ShouldTruncateLongUserAgent() throws IOException, ServletException {
     // Arrange
-    String longUserAgent = "A".repeat(150);
-    when(request.getSession(true)).thenReturn(session);
-    when(session.getId()).thenReturn("SESSION123");
+    stubRequest("GET", "/api/v1/test", "A".repeat(150));
     when(request.getRemoteAddr()).thenReturn("192.168.1.1");
-    when(request.getHeader("User-Agent")).thenReturn(longUserAgent);
-    when(request.getMethod()).thenReturn("GET");
-    when(request.getRequestURI()).thenReturn("/api/v1/test");
-    when(request.getHeader("X-Forwarded-For")).thenReturn(null);
-    when(request.getHeader("X-Real-IP")).thenReturn(null);
     when(response.getStatus()).thenReturn(200);
 
     // Act
     requestLoggingFilter.doFilter(request, response, filterChain);
 
     // Assert
-    List<ILoggingEvent> logsList = listAppender.list;
-    ILoggingEvent requestLog = logsList.get(0);
     String expectedTruncatedUserAgent = "A".repeat(100);
-    assertEquals(
-        "[GET] [/api/v1/test]\n    Session: SESSION123 | IP: 192.168.1.1 | User-Agent: "
-            + expectedTruncatedUserAgent,
-        requestLog.getFormattedMessage());
+    assertTrue(
+        listAppender
+            .list
+            .get(0)
+            .getFormattedMessage()
+            .endsWith(" userAgent=\"" + expectedTruncatedUserAgent + "\""));
   }
 
   @Test
   void doFilter_ShouldHandleNullRemoteAddr() throws IOException, ServletException {
     // Arrange
-    when(request.getSession(true)).thenReturn(session);
-    when(session.getId()).thenReturn("SESSION123");
+    stubRequest("GET", "/api/v1/test", "Mozilla/5.0");
     when(request.getRemoteAddr()).thenReturn(null);
-    when(request.getHeader("User-Agent")).thenReturn("Mozilla/5.0");
-    when(request.getMethod()).thenReturn("GET");
-    when(request.getRequestURI()).thenReturn("/api/v1/test");
-    when(request.getHeader("X-Forwarded-For")).thenReturn(null);
-    when(request.getHeader("X-Real-IP")).thenReturn(null);
     when(response.getStatus()).thenReturn(200);
 
     // Act
     requestLoggingFilter.doFilter(request, response, filterChain);
 
     // Assert
-    List<ILoggingEvent> logsList = listAppender.list;
-    ILoggingEvent requestLog = logsList.get(0);
-    assertEquals(
-        "[GET] [/api/v1/test]\n    Session: SESSION123 | IP: unknown | User-Agent: Mozilla/5.0",
-        requestLog.getFormattedMessage());
+    assertTrue(listAppender.list.get(0).getFormattedMessage().contains(" ip=unknown "));
+  }
+
+  @Test
+  void doFilter_ShouldSkipUnsampledSuccessfulRequests() throws IOException, ServletException {
+    // Arrange
+    loggingProperties.setSampleRate(0.0);
+    when(request.getHeader("X-Request-Id")).thenReturn("REQ-123");
+    when(response.getStatus()).thenReturn(200);
+
+    // Act
+    requestLoggingFilter.doFilter(request, response, filterChain);
+
+    // Assert
+    verify(filterChain, times(1)).doFilter(request, response);
+    assertTrue(listAppender.list.isEmpty());
+  }
+
+  @Test
+  void doFilter_ShouldAlwaysLogFailedRequests() throws IOException, ServletException {
+    // Arrange
+    loggingProperties.setSampleRate(0.0);
+    stubRequest("GET", "/api/v1/test", "Mozilla/5.0");
+    when(request.getRemoteAddr()).thenReturn("192.168.1.1");
+    when(response.getStatus()).thenReturn(400);
+
+    // Act
+    requestLoggingFilter.doFilter(request, response, filterChain);
+
+    // Assert
+    assertEquals(1, listAppender.list.size());
+    assertTrue(listAppender.list.get(0).getFormattedMessage().contains(" status=400 "));
+  }
+
+  @Test
+  void doFilter_ShouldEchoRequestIdWithoutCreatingSession() throws IOException, ServletException {
+    // Arrange
+    AtomicReference<String> requestIdDuringChain = new AtomicReference<>();
+    stubRequest("GET", "/api/v1/test", "Mozilla/5.0");
+    when(request.getRemoteAddr()).thenReturn("192.168.1.1");
+    when(response.getStatus()).thenReturn(200);
+    doAnswer(
+            invocation -> {
+              requestIdDuringChain.set(MDC.get("requestId"));
+              return null;
+            })
+        .when(filterChain)
+        .doFilter(request, response);
+
+    // Act
+    requestLoggingFilter.doFilter(request, response, filterChain);
+
+    // Assert
+    verify(response).setHeader("X-Request-Id", "REQ-123");
+    verify(request, never()).getSession(anyBoolean());
+    verify(request, never()).getSession();
+    assertEquals("REQ-123", requestIdDuringChain.get());
+    assertNull(MDC.get("requestId"));
+  }
+
+  @Test
+  void doFilter_ShouldGenerateRequestIdWhenHeaderIsMissing() throws IOException, ServletException {
+    // Arrange
+    loggingProperties.setSampleRate(0.0);
+    when(request.getHeader("X-Request-Id")).thenReturn(null);
+    when(response.getStatus()).thenReturn(200);
+
+    // Act
+    requestLoggingFilter.doFilter(request, response, filterChain);
+
+    // Assert
+    ArgumentCaptor<String> requestId = ArgumentCaptor.forClass(String.class);
+    verify(response).setHeader(eq("X-Request-Id"), requestId.capture());
+    assertDoesNotThrow(() -> UUID.fromString(requestId.getValue()));
+  }
+
+  @Test
+  void doFilter_ShouldReplaceUnusableRequestId() throws IOException, ServletException {
+    // Arrange
+    loggingProperties.setSampleRate(0.0);
+    when(request.getHeader("X-Request-Id")).thenReturn("forged\nmethod=DELETE");
+    when(response.getStatus()).thenReturn(200);
+
+    // Act
+    requestLoggingFilter.doFilter(request, response, filterChain);
+
+    // Assert
+    ArgumentCaptor<String> requestId = ArgumentCaptor.forClass(String.class);
+    verify(response).setHeader(eq("X-Request-Id"), requestId.capture());
+    assertDoesNotThrow(() -> UUID.fromString(requestId.getValue()));
+  }
+
+  @Test
+  void doFilter_ShouldClearRequestIdWhenExceptionOccurs() throws IOException, ServletException {
+    // Arrange
+    stubRequest("GET", "/api/v1/test", "Mozilla/5.0");
+    when(request.getRemoteAddr()).thenReturn("192.168.1.1");
+    doThrow(new IllegalStateException("boom")).when(filterChain).doFilter(request, response);
+
+    // Act
+    assertThrows(
+        IllegalStateException.class,
+        () -> requestLoggingFilter.doFilter(request, response, filterChain));
+
+    // Assert
+    assertNull(MDC.get("requestId"));
   }
 
   @Test
   void doFilter_ShouldNotThrowException() {
     // Arrange
-    when(request.getSession(true)).thenReturn(session);
-    when(session.getId()).thenReturn("SESSION123");
+    stubRequest("GET", "/api/v1/test", "Mozilla/5.0");
     when(request.getRemoteAddr()).thenReturn("192.168.1.1");
-    when(request.getHeader("User-Agent")).thenReturn("Mozilla/5.0");
-    when(request.getMethod()).thenReturn("GET");
-    when(request.getRequestURI()).thenReturn("/api/v1/test");
-    when(request.getHeader("X-Forwarded-For")).thenReturn(null);
-    when(request.getHeader("X-Real-IP")).thenReturn(null);
     when(response.getStatus()).thenReturn(200);
 
     // Act & Assert
     assertDoesNotThrow(() -> requestLoggingFilter.doFilter(request, response, filterChain));
   }
+
+  private void stubRequest(String method, String uri, String userAgent) {
+    when(request.getHeader("X-Request-Id")).thenReturn("REQ-123");
+    when(request.getHeader("User-Agent")).thenReturn(userAgent);
+    when(request.getMethod()).thenReturn(method);
+    when(request.getRequestURI()).thenReturn(uri);
+    when(request.getHeader("X-Forwarded-For")).thenReturn(null);
+    when(request.getHeader("X-Real-IP")).thenReturn(null);
+  }
+
+  /** Durations vary between runs, so they are normalized to 0 before comparing messages. */
+  private static String withoutDuration(String message) {
+    return message.replaceFirst("durationMs=\\d+", "durationMs=0");
+  }
 }
@@ -0,0 +1,166 @@
+package com.scrabble.score;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+class LeaderboardCacheTest {
+
+  @Mock private ScoreRepository scoreRepository;
+
+  @Mock private PlatformTransactionManager transactionManager;
+
+  private LeaderboardCache leaderboardCache;
+
+  private Score first;
+  private Score second;
+
+  @BeforeEach
+  void setUp() {
+    ScoreProperties scoreProperties = new ScoreProperties();
+    scoreProperties.setLeaderboardSize(2);
+    leaderboardCache = new LeaderboardCache(scoreRepository, scoreProperties, transactionManager);
+
+    LocalDateTime now = LocalDateTime.now();
+    first =
+        Score.builder().id(UUID.randomUUID()).letters("QUIZ").points(22).createdAt(now).build();
+    second =
+        Score.builder().id(UUID.randomUUID()).letters("HELLO").points(8).createdAt(now).build();
+  }
+
+  @Test
+  void findPage_ShouldServeWarmedLeaderboard() {
+    when(scoreRepository.findSliceBy(any(Pageable.class)))
+        .thenReturn(new SliceImpl<>(List.of(first, second)));
+
+    leaderboardCache.warmUp();
+
+    Pageable firstPage = PageRequest.of(0, 2, LeaderboardCache.LEADERBOARD_SORT);
+    Pageable secondPage = PageRequest.of(1, 2, LeaderboardCache.LEADERBOARD_SORT);
+    assertEquals(
+        Optional.of(List.of(first, second)),
+        leaderboardCache.findPage(firstPage, LeaderboardWindow.ALL));
+    assertTrue(leaderboardCache.findPage(secondPage, LeaderboardWindow.ALL).isEmpty());
+  }
+
+  @Test
+  void findPage_ShouldServeLeaderboardSortWithoutTheIdKey() {
+    when(scoreRepository.findSliceBy(any(Pageable.class)))
+        .thenReturn(new SliceImpl<>(List.of(first, second)));
+    leaderboardCache.warmUp();
+
+    Pageable clientSort = PageRequest.of(0, 2, Sort.by(Sort.Direction.DESC, "points", "createdAt"));
+    assertEquals(
+        Optional.of(List.of(first, second)),
+        leaderboardCache.findPage(clientSort, LeaderboardWindow.ALL));
+    verify(scoreRepository).findSliceBy(PageRequest.of(0, 2, LeaderboardCache.LEADERBOARD_SORT));
+  }
+
+  @Test
+  void findPage_ShouldSkipOtherSortOrders() {
+    when(scoreRepository.findSliceBy(any(Pageable.class)))
+        .thenReturn(new SliceImpl<>(List.of(first, second)));
+    leaderboardCache.warmUp();
+
+    assertTrue(
+        leaderboardCache
+            .findPage(PageRequest.of(0, 2, Sort.by("points")), LeaderboardWindow.ALL)
+            .isEmpty());
+  }
+
+  @Test
+  void remove_ShouldReloadWhenLeaderIsDeleted() {
+    when(scoreRepository.findSliceBy(any(Pageable.class)))
+        .thenReturn(new SliceImpl<>(List.of(first, second)))
+        .thenReturn(new SliceImpl<>(List.of(second)));
+    leaderboardCache.warmUp();
+
+    leaderboardCache.remove(List.of(first.getId()));
+
+    verify(scoreRepository, times(2)).findSliceBy(any(Pageable.class));
+    assertEquals(
+        Optional.of(List.of(second)),
+        leaderboardCache.findPage(
+            PageRequest.of(0, 2, LeaderboardCache.LEADERBOARD_SORT), LeaderboardWindow.ALL));
+  }
+
+  @Test
+  void findPage_ShouldLoadWindowOnceAndKeepItCurrent() {
+    Score yesterday =
+        Score.builder()
+            .id(UUID.randomUUID())
+            .letters("JAZZ")
+            .points(29)
+            .createdAt(LocalDateTime.now().minusDays(1))
+            .build();
+    when(scoreRepository.findSliceByCreatedAtGreaterThanEqual(
+            any(LocalDateTime.class), any(Pageable.class)))
+        .thenReturn(new SliceImpl<>(List.of(second)));
+    Pageable firstPage = PageRequest.of(0, 2, LeaderboardCache.LEADERBOARD_SORT);
+
+    assertEquals(
+        Optional.of(List.of(second)), leaderboardCache.findPage(firstPage, LeaderboardWindow.DAY));
+    leaderboardCache.addAll(List.of(first, yesterday));
+
+    assertEquals(
+        Optional.of(List.of(first, second)),
+        leaderboardCache.findPage(firstPage, LeaderboardWindow.DAY));
+    verify(scoreRepository, times(1))
+        .findSliceByCreatedAtGreaterThanEqual(any(LocalDateTime.class), any(Pageable.class));
+  }
+
+  @Test
+  void remove_ShouldReloadWindowOnNextUseWhenLeaderIsDeleted() {
+    when(scoreRepository.findSliceByCreatedAtGreaterThanEqual(
+            any(LocalDateTime.class), any(Pageable.class)))
+        .thenReturn(new SliceImpl<>(List.of(first, second)))
+        .thenReturn(new SliceImpl<>(List.of(second)));
+    Pageable firstPage = PageRequest.of(0, 2, LeaderboardCache.LEADERBOARD_SORT);
+    leaderboardCache.findPage(firstPage, LeaderboardWindow.WEEK);
+
+    leaderboardCache.remove(List.of(first.getId()));
+
+    assertEquals(
+        Optional.of(List.of(second)), leaderboardCache.findPage(firstPage, LeaderboardWindow.WEEK));
+    verify(scoreRepository, times(2))
+        .findSliceByCreatedAtGreaterThanEqual(any(LocalDateTime.class), any(Pageable.class));
+  }
+
+  @Test
+  void warmUpAndWindowLoads_ShouldReadInReadWriteTransactions() {
+    when(scoreRepository.findSliceBy(any(Pageable.class)))
+        .thenReturn(new SliceImpl<>(List.of(first, second)));
+    when(scoreRepository.findSliceByCreatedAtGreaterThanEqual(
+            any(LocalDateTime.class), any(Pageable.class)))
+        .thenReturn(new SliceImpl<>(List.of(second)));
+
+    leaderboardCache.warmUp();
+    leaderboardCache.findPage(
+        PageRequest.of(0, 2, LeaderboardCache.LEADERBOARD_SORT), LeaderboardWindow.MONTH);
+
+    // Read-only transactions may be routed to a lagging replica
+    verify(transactionManager, times(2))
+        .getTransaction(argThat(definition -> !definition.isReadOnly()));
+    verify(transactionManager, times(2)).commit(any());
+  }
+}
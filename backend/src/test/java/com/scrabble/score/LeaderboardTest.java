@@ -0,0 +1,109 @@
+package com.scrabble.score;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class LeaderboardTest {
+
+  private static final LocalDateTime NOW = LocalDateTime.now();
+
+  private Leaderboard leaderboard;
+
+  @BeforeEach
+  void setUp() {
+    leaderboard = new Leaderboard(3);
+  }
+
+  @Test
+  void page_ShouldReturnNullBeforeLoad() {
+    assertFalse(leaderboard.isLoaded());
+    assertNull(leaderboard.page(0, 10));
+  }
+
+  @Test
+  void page_ShouldServeEverythingWhenTableIsSmallerThanCapacity() {
+    Score high = score(9, 1);
+    Score low = score(5, 2);
+    leaderboard.load(List.of(low, high));
+
+    assertEquals(List.of(high, low), leaderboard.page(0, 10));
+    assertEquals(List.of(), leaderboard.page(10, 10));
+  }
+
+  @Test
+  void offer_ShouldKeepOrderAndEvictBeyondCapacity() {
+    Score nine = score(9, 1);
+    Score sevenOld = score(7, 2);
+    Score sevenNew = score(7, 3);
+    Score five = score(5, 4);
+    leaderboard.load(List.of(nine, five));
+
+    assertTrue(leaderboard.offer(sevenOld));
+    assertTrue(leaderboard.offer(sevenNew));
+
+    assertEquals(List.of(nine, sevenNew, sevenOld), leaderboard.page(0, 3));
+    assertFalse(leaderboard.offer(score(1, 5)));
+    assertNull(leaderboard.page(1, 3));
+  }
+
+  @Test
+  void offer_ShouldIgnoreDuplicates() {
+    Score nine = score(9, 1);
+    leaderboard.load(List.of(nine));
+
+    assertFalse(leaderboard.offer(nine));
+    assertEquals(List.of(nine), leaderboard.page(0, 3));
+  }
+
+  @Test
+  void offer_ShouldBreakTiesByIdAsThePostgresUuidOrderDoes() {
+    // Signed, the 8... and f... ids would rank below 7...; the database compares them unsigned
+    Score highest = tied("ffffffff-0000-0000-0000-000000000000");
+    Score high = tied("80000000-0000-0000-0000-000000000000");
+    Score low = tied("7fffffff-ffff-ffff-ffff-ffffffffffff");
+    Score lowest = tied("00000000-0000-0000-0000-000000000001");
+    leaderboard.load(List.of(low, lowest, high));
+
+    assertTrue(leaderboard.offer(highest));
+
+    assertEquals(List.of(highest, high, low), leaderboard.page(0, 3));
+    assertNull(leaderboard.page(2, 2));
+    assertFalse(leaderboard.offer(lowest));
+  }
+
+  @Test
+  void remove_ShouldRequestRefillWhenLeaderLeavesFullLeaderboard() {
+    Score nine = score(9, 1);
+    Score eight = score(8, 2);
+    Score seven = score(7, 3);
+    leaderboard.load(List.of(nine, eight, seven));
+
+    assertEquals(1, leaderboard.remove(List.of(nine.getId(), UUID.randomUUID())));
+
+    assertTrue(leaderboard.needsRefill());
+    assertEquals(List.of(eight, seven), leaderboard.page(0, 2));
+    assertNull(leaderboard.page(0, 3));
+    assertFalse(leaderboard.offer(score(1, 4)));
+  }
+
+  private static Score tied(String id) {
+    return Score.builder().id(UUID.fromString(id)).letters("TIE").points(7).createdAt(NOW).build();
+  }
+
+  private static Score score(int points, int minutesAgo) {
+    return Score.builder()
+        .id(UUID.randomUUID())
+        .letters("TEST")
+        .points(points)
+        .createdAt(NOW.minusMinutes(minutesAgo))
+        .build();
+  }
+}
@@ -0,0 +1,42 @@
+package com.scrabble.score;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.Test;
+
+class LeaderboardWindowTest {
+
+  // A Thursday
+  private static final LocalDateTime NOW = LocalDateTime.of(2025, 3, 13, 15, 42, 7);
+
+  @Test
+  void start_ShouldTruncateToWindowStart() {
+    assertNull(LeaderboardWindow.ALL.start(NOW));
+    assertEquals(LocalDateTime.of(2025, 3, 13, 0, 0), LeaderboardWindow.DAY.start(NOW));
+    assertEquals(LocalDateTime.of(2025, 3, 10, 0, 0), LeaderboardWindow.WEEK.start(NOW));
+    assertEquals(LocalDateTime.of(2025, 3, 1, 0, 0), LeaderboardWindow.MONTH.start(NOW));
+  }
+
+  @Test
+  void start_ShouldKeepMondayAsWeekStart() {
+    LocalDateTime monday = LocalDateTime.of(2025, 3, 10, 0, 0);
+    assertEquals(monday, LeaderboardWindow.WEEK.start(monday));
+  }
+
+  @Test
+  void parse_ShouldIgnoreCaseAndDefaultToAllTime() {
+    assertEquals(LeaderboardWindow.WEEK, LeaderboardWindow.parse("Week"));
+    assertEquals(LeaderboardWindow.ALL, LeaderboardWindow.parse(null));
+    assertEquals(LeaderboardWindow.ALL, LeaderboardWindow.parse(" "));
+  }
+
+  @Test
+  void parse_ShouldRejectUnknownWindow() {
+    IllegalArgumentException exception =
+        assertThrows(IllegalArgumentException.class, () -> LeaderboardWindow.parse("year"));
+    assertEquals("Unknown leaderboard window: year.", exception.getMessage());
+  }
+}
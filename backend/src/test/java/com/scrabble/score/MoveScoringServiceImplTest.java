@@ -0,0 +1,81 @@
+package com.scrabble.score;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.scrabble.board.Direction;
+import com.scrabble.dictionary.DictionaryService;
+import com.scrabble.score.dto.MoveDTO;
+import com.scrabble.score.dto.MoveScoreDTO;
+import com.scrabble.score.dto.WordScoreDTO;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class MoveScoringServiceImplTest {
+
+  @Mock private DictionaryService dictionaryService;
+
+  @Mock private ScoringRulesService scoringRulesService;
+
+  private MoveScoringService moveScoringService;
+
+  private MoveDTO move;
+
+  @BeforeEach
+  void setUp() {
+    moveScoringService = new MoveScoringServiceImpl(dictionaryService, scoringRulesService);
+    List<String> board = new ArrayList<>(Collections.nCopies(15, "..............."));
+    board.set(7, "......CAT......");
+    move =
+        MoveDTO.builder()
+            .board(board)
+            .row(8)
+            .column(7)
+            .direction(Direction.ACROSS)
+            .word("AX")
+            .build();
+  }
+
+  @Test
+  void scoreMove_ShouldScoreMainAndCrossWords() {
+    // Arrange
+    when(scoringRulesService.getScoringTable("en"))
+        .thenReturn(new ScoringRulesServiceImpl(new ScoreProperties()).getScoringTable());
+
+    // Act
+    MoveScoreDTO result = moveScoringService.scoreMove(move, false, "en");
+
+    // Assert
+    assertEquals(36, result.getScore());
+    assertEquals(
+        List.of("AX", "AA", "TX"), result.getWords().stream().map(WordScoreDTO::getWord).toList());
+    assertEquals(2, result.getTilesPlaced());
+    assertEquals(false, result.getBingo());
+    verifyNoInteractions(dictionaryService);
+  }
+
+  @Test
+  void scoreMove_WithValidate_ShouldRejectInvalidCrossWord() {
+    // Arrange
+    when(scoringRulesService.getScoringTable(null))
+        .thenReturn(new ScoringRulesServiceImpl(new ScoreProperties()).getScoringTable());
+    when(dictionaryService.isValid("AX")).thenReturn(true);
+    when(dictionaryService.isValid("AA")).thenReturn(true);
+    when(dictionaryService.isValid("TX")).thenReturn(false);
+
+    // Act & Assert
+    IllegalArgumentException exception =
+        assertThrows(
+            IllegalArgumentException.class, () -> moveScoringService.scoreMove(move, true, null));
+    assertEquals("'TX' is not a valid word.", exception.getMessage());
+  }
+}
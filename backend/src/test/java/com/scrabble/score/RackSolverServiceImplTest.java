@@ -0,0 +1,57 @@
+package com.scrabble.score;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.scrabble.dictionary.DictionaryService;
+import com.scrabble.dictionary.Lexicon;
+import com.scrabble.score.dto.RackWordDTO;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class RackSolverServiceImplTest {
+
+  @Mock private DictionaryService dictionaryService;
+
+  @Mock private ScoringRulesService scoringRulesService;
+
+  @Test
+  void findBestWords_ShouldSolveAgainstLoadedDictionary() {
+    // Arrange
+    when(dictionaryService.getLexicon()).thenReturn(Lexicon.of(List.of("CAT", "ACT", "AT")));
+    when(scoringRulesService.getScoringTable())
+        .thenReturn(new ScoringRulesServiceImpl(new ScoreProperties()).getScoringTable());
+    RackSolverService rackSolverService =
+        new RackSolverServiceImpl(dictionaryService, scoringRulesService);
+
+    // Act
+    List<RackWordDTO> result = rackSolverService.findBestWords("TAC", 2);
+
+    // Assert
+    assertEquals(List.of("ACT", "CAT"), result.stream().map(RackWordDTO::getWord).toList());
+    assertEquals(5, result.get(0).getScore());
+  }
+
+  @ParameterizedTest(name = "limit {0} should be rejected")
+  @ValueSource(ints = {0, -1, 51})
+  void findBestWords_ShouldRejectLimitOutOfRange(int limit) {
+    // Arrange
+    RackSolverService rackSolverService =
+        new RackSolverServiceImpl(dictionaryService, scoringRulesService);
+
+    // Act & Assert
+    IllegalArgumentException exception =
+        assertThrows(
+            IllegalArgumentException.class, () -> rackSolverService.findBestWords("CAT", limit));
+    assertEquals("Limit must be between 1 and 50.", exception.getMessage());
+    verifyNoInteractions(dictionaryService);
+  }
+}
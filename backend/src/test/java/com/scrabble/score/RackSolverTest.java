@@ -0,0 +1,80 @@
+package com.scrabble.score;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.scrabble.dictionary.Lexicon;
+import com.scrabble.score.dto.RackWordDTO;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+
+class RackSolverTest {
+
+  private static final Lexicon LEXICON =
+      Lexicon.of(List.of("A AZ IT QI QUIT QUITS QUIZ QUIZZES SUIT TI ZA ZZZ".split(" ")));
+
+  private final ScoringTable scoringTable =
+      new ScoringRulesServiceImpl(new ScoreProperties()).getScoringTable();
+
+  @Test
+  void solve_ShouldReturnSpellableWordsBestFirst() {
+    List<RackWordDTO> result = RackSolver.solve(LEXICON, scoringTable, "QUIZTSA", 10);
+
+    assertEquals(
+        "QUIZ:22 QUITS:14 QUIT:13 AZ:11 QI:11 ZA:11 SUIT:4 IT:2 TI:2 A:1", describe(result));
+  }
+
+  @Test
+  void solve_ShouldScoreBlanksAsZeroAndMarkThemInLowerCase() {
+    List<RackWordDTO> result = RackSolver.solve(LEXICON, scoringTable, "qu?z", 3);
+
+    assertEquals("QUiZ:21 aZ:10 Qi:10", describe(result));
+  }
+
+  @Test
+  void solve_ShouldPreferRealTilesOverBlanks() {
+    List<RackWordDTO> result = RackSolver.solve(LEXICON, scoringTable, "?ZA", 1);
+
+    assertEquals("AZ:11", describe(result));
+  }
+
+  @Test
+  void solve_ShouldNotReuseTiles() {
+    List<RackWordDTO> result = RackSolver.solve(LEXICON, scoringTable, "ZZ", 5);
+
+    assertTrue(result.isEmpty());
+  }
+
+  @Test
+  void solve_ShouldKeepOnlyTheBestWordsUpToLimit() {
+    List<RackWordDTO> result = RackSolver.solve(LEXICON, scoringTable, "QUIZTSA", 2);
+
+    assertEquals("QUIZ:22 QUITS:14", describe(result));
+  }
+
+  @Test
+  void solve_ShouldRejectInvalidTiles() {
+    IllegalArgumentException exception =
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> RackSolver.solve(LEXICON, scoringTable, "QU1Z", 10));
+    assertEquals("Rack tiles must be letters or '?' for a blank.", exception.getMessage());
+  }
+
+  @Test
+  void solve_ShouldRejectMoreThanTwoBlanks() {
+    IllegalArgumentException exception =
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> RackSolver.solve(LEXICON, scoringTable, "A???", 10));
+    assertEquals("A rack cannot hold more than 2 blanks.", exception.getMessage());
+  }
+
+  private static String describe(List<RackWordDTO> words) {
+    return words.stream()
+        .map(word -> word.getWord() + ":" + word.getScore())
+        .collect(Collectors.joining(" "));
+  }
+}
@@ -1,23 +1,46 @@
 package com.scrabble.score;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.scrabble.board.Direction;
+import com.scrabble.score.dto.MoveDTO;
+import com.scrabble.score.dto.MoveScoreDTO;
+import com.scrabble.score.dto.RackWordDTO;
+import com.scrabble.score.dto.ScoreBatchComputeDTO;
+import com.scrabble.score.dto.ScoreBatchCreateDTO;
 import com.scrabble.score.dto.ScoreComputeDTO;
 import com.scrabble.score.dto.ScoreCreateDTO;
 import com.scrabble.score.dto.ScoreDTO;
+import com.scrabble.score.dto.ScoreDeleteDTO;
+import com.scrabble.score.dto.ScoreRankDTO;
 import com.scrabble.score.dto.ScoringRuleDTO;
+import com.scrabble.score.dto.TopScoreDTO;
+import com.scrabble.score.dto.TopScorePageDTO;
+import com.scrabble.score.dto.WordScoreDTO;
+import com.scrabble.score.dto.WordScorePageDTO;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
@@ -52,7 +75,8 @@ class ScoreControllerTest {
 
     ScoreComputeDTO response = ScoreComputeDTO.builder().letters("HELLO").score(8).build();
 
-    when(scoreService.computeScore(any(ScoreCreateDTO.class))).thenReturn(response);
+    when(scoreService.computeScore(any(ScoreCreateDTO.class), eq(false), isNull()))
+        .thenReturn(response);
 
     mockMvc
         .perform(
@@ -61,9 +85,31 @@ class ScoreControllerTest {
                 .content(objectMapper.writeValueAsString(request)))
         .andExpect(status().isOk())
         .andExpect(jsonPath("$.letters").value("HELLO"))
-        .andExpect(jsonPath("$.score").value(8));
+        .andExpect(jsonPath("$.score").value(8))
+        .andExpect(jsonPath("$.valid").doesNotExist());
 
-    verify(scoreService).computeScore(any(ScoreCreateDTO.class));
+    verify(scoreService).computeScore(any(ScoreCreateDTO.class), eq(false), isNull());
+  }
+
+  @Test
+  void computeScore_WithValidate_ShouldReturnValidity() throws Exception {
+    ScoreCreateDTO request = ScoreCreateDTO.builder().letters("HELLO").build();
+
+    ScoreComputeDTO response =
+        ScoreComputeDTO.builder().letters("HELLO").score(8).valid(true).build();
+
+    when(scoreService.computeScore(any(ScoreCreateDTO.class), eq(true), isNull()))
+        .thenReturn(response);
+
+    mockMvc
+        .perform(
+            post("/api/v1/scores/compute")
+                .param("validate", "true")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.score").value(8))
+        .andExpect(jsonPath("$.valid").value(true));
   }
 
   @Test
@@ -78,6 +124,197 @@ class ScoreControllerTest {
         .andExpect(status().isBadRequest());
   }
 
+  @Test
+  void computeScores_ShouldReturnScoresInRequestOrder() throws Exception {
+    ScoreBatchCreateDTO request =
+        ScoreBatchCreateDTO.builder().letters(List.of("HELLO", "QUIZ", "A")).build();
+
+    ScoreBatchComputeDTO response =
+        ScoreBatchComputeDTO.builder().scores(new int[] {8, 22, 1}).build();
+
+    when(scoreService.computeScores(any(ScoreBatchCreateDTO.class), isNull())).thenReturn(response);
+
+    mockMvc
+        .perform(
+            post("/api/v1/scores/compute:batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.scores[0]").value(8))
+        .andExpect(jsonPath("$.scores[1]").value(22))
+        .andExpect(jsonPath("$.scores[2]").value(1));
+
+    verify(scoreService).computeScores(any(ScoreBatchCreateDTO.class), isNull());
+  }
+
+  @Test
+  void computeScores_WithEmptyBatch_ShouldReturnBadRequest() throws Exception {
+    ScoreBatchCreateDTO request = ScoreBatchCreateDTO.builder().letters(List.of()).build();
+
+    mockMvc
+        .perform(
+            post("/api/v1/scores/compute:batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+        .andExpect(status().isBadRequest());
+  }
+
+  @Test
+  void computeScores_WithInvalidEntry_ShouldReturnBadRequest() throws Exception {
+    ScoreBatchCreateDTO request =
+        ScoreBatchCreateDTO.builder()
+            .letters(List.of("HELLO", "", "THISISMORETHANTENCHARACTERS"))
+            .build();
+
+    mockMvc
+        .perform(
+            post("/api/v1/scores/compute:batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+        .andExpect(status().isBadRequest());
+  }
+
+  @Test
+  void computeScoresAsText_ShouldStreamServiceOutput() throws Exception {
+    doAnswer(
+            invocation -> {
+              OutputStream output = invocation.getArgument(1);
+              output.write("HELLO\t8\n".getBytes(StandardCharsets.UTF_8));
+              return null;
+            })
+        .when(scoreService)
+        .computeScoresAsText(any(InputStream.class), any(OutputStream.class), isNull());
+
+    mockMvc
+        .perform(
+            post("/api/v1/scores/compute:stream")
+                .contentType(MediaType.TEXT_PLAIN)
+                .content("HELLO\n"))
+        .andExpect(status().isOk())
+        .andExpect(content().contentTypeCompatibleWith(MediaType.TEXT_PLAIN))
+        .andExpect(content().string("HELLO\t8\n"));
+  }
+
+  @Test
+  void computeScoresAsNdjson_ShouldStreamServiceOutput() throws Exception {
+    mockMvc
+        .perform(
+            post("/api/v1/scores/compute:stream")
+                .param("ruleSet", "fr")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .content("{\"letters\":\"HELLO\"}\n"))
+        .andExpect(status().isOk())
+        .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON));
+
+    verify(scoreService)
+        .computeScoresAsNdjson(any(InputStream.class), any(OutputStream.class), eq("fr"));
+  }
+
+  @Test
+  void findBestWords_ShouldReturnWordsFromService() throws Exception {
+    ScoreCreateDTO request = ScoreCreateDTO.builder().letters("QUIZ?").build();
+
+    List<RackWordDTO> response =
+        List.of(
+            RackWordDTO.builder().word("QUIZ").score(22).build(),
+            RackWordDTO.builder().word("QUiZ").score(21).build());
+
+    when(scoreService.findBestWords(any(ScoreCreateDTO.class), eq(5))).thenReturn(response);
+
+    mockMvc
+        .perform(
+            post("/api/v1/scores/solve")
+                .param("limit", "5")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.length()").value(2))
+        .andExpect(jsonPath("$[0].word").value("QUIZ"))
+        .andExpect(jsonPath("$[0].score").value(22))
+        .andExpect(jsonPath("$[1].word").value("QUiZ"));
+  }
+
+  @Test
+  void findBestWords_WithTooManyTiles_ShouldReturnBadRequest() throws Exception {
+    mockMvc
+        .perform(
+            post("/api/v1/scores/solve")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"letters\":\"ABCDEFGHIJK\"}"))
+        .andExpect(status().isBadRequest());
+
+    verify(scoreService, never()).findBestWords(any(ScoreCreateDTO.class), anyInt());
+  }
+
+  @Test
+  void computeMoveScore_ShouldReturnMoveScore() throws Exception {
+    List<String> board = Collections.nCopies(15, "...............");
+    MoveDTO request =
+        MoveDTO.builder()
+            .board(board)
+            .row(7)
+            .column(6)
+            .direction(Direction.ACROSS)
+            .word("CAT")
+            .build();
+
+    MoveScoreDTO response =
+        MoveScoreDTO.builder()
+            .score(10)
+            .words(List.of(WordScoreDTO.builder().word("CAT").score(10).build()))
+            .tilesPlaced(3)
+            .bingo(false)
+            .build();
+
+    when(scoreService.computeMoveScore(any(MoveDTO.class), eq(false), isNull()))
+        .thenReturn(response);
+
+    mockMvc
+        .perform(
+            post("/api/v1/scores/compute:move")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.score").value(10))
+        .andExpect(jsonPath("$.words[0].word").value("CAT"))
+        .andExpect(jsonPath("$.bingo").value(false));
+  }
+
+  @Test
+  void computeMoveScore_WithRowOffBoard_ShouldReturnBadRequest() throws Exception {
+    mockMvc
+        .perform(
+            post("/api/v1/scores/compute:move")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(
+                    "{\"board\":[],\"row\":15,\"column\":0,\"direction\":\"ACROSS\","
+                        + "\"word\":\"CAT\"}"))
+        .andExpect(status().isBadRequest());
+
+    verify(scoreService, never()).computeMoveScore(any(MoveDTO.class), anyBoolean(), any());
+  }
+
+  @Test
+  void findWords_ShouldReturnPageFromService() throws Exception {
+    WordScorePageDTO response =
+        WordScorePageDTO.builder()
+            .items(
+                List.of(
+                    WordScoreDTO.builder().word("QUIZ").score(22).build(),
+                    WordScoreDTO.builder().word("JINX").score(20).build()))
+            .total(2)
+            .build();
+
+    when(scoreService.findWords(20, 25, null, null, 0, 20)).thenReturn(response);
+
+    mockMvc
+        .perform(get("/api/v1/scores/words").param("minScore", "20").param("maxScore", "25"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.total").value(2))
+        .andExpect(jsonPath("$.items[0].word").value("QUIZ"))
+        .andExpect(jsonPath("$.items[1].score").value(20));
+  }
+
   @Test
   void create_ShouldCreateAndReturnScore() throws Exception {
     ScoreCreateDTO request = ScoreCreateDTO.builder().letters("HELLO").build();
@@ -91,7 +328,7 @@ class ScoreControllerTest {
             .createdAt(LocalDateTime.now())
             .build();
 
-    when(scoreService.create(any(ScoreCreateDTO.class))).thenReturn(response);
+    when(scoreService.create(any(ScoreCreateDTO.class), eq(false))).thenReturn(response);
 
     mockMvc
         .perform(
@@ -103,7 +340,7 @@ class ScoreControllerTest {
         .andExpect(jsonPath("$.letters").value("HELLO"))
         .andExpect(jsonPath("$.points").value(8));
 
-    verify(scoreService).create(any(ScoreCreateDTO.class));
+    verify(scoreService).create(any(ScoreCreateDTO.class), eq(false));
   }
 
   @Test
@@ -142,6 +379,43 @@ class ScoreControllerTest {
         .andExpect(status().isBadRequest());
   }
 
+  @Test
+  void createAll_ShouldCreateAndReturnScores() throws Exception {
+    ScoreBatchCreateDTO request =
+        ScoreBatchCreateDTO.builder().letters(List.of("HELLO", "WORLD")).build();
+
+    List<ScoreDTO> response =
+        List.of(
+            ScoreDTO.builder().id(UUID.randomUUID()).letters("HELLO").points(8).build(),
+            ScoreDTO.builder().id(UUID.randomUUID()).letters("WORLD").points(9).build());
+
+    when(scoreService.createAll(any(ScoreBatchCreateDTO.class))).thenReturn(response);
+
+    mockMvc
+        .perform(
+            post("/api/v1/scores/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$[0].letters").value("HELLO"))
+        .andExpect(jsonPath("$[1].points").value(9));
+
+    verify(scoreService).createAll(any(ScoreBatchCreateDTO.class));
+  }
+
+  @Test
+  void createAll_WithInvalidEntry_ShouldReturnBadRequest() throws Exception {
+    ScoreBatchCreateDTO request =
+        ScoreBatchCreateDTO.builder().letters(List.of("THISISMORETHANTENCHARACTERS")).build();
+
+    mockMvc
+        .perform(
+            post("/api/v1/scores/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+        .andExpect(status().isBadRequest());
+  }
+
   @Test
   void getScoringRules_ShouldReturnRules() throws Exception {
     List<ScoringRuleDTO> rules =
@@ -150,10 +424,10 @@ class ScoreControllerTest {
             ScoringRuleDTO.builder().letters("B").points(3).build(),
             ScoringRuleDTO.builder().letters("Q").points(10).build());
 
-    when(scoreService.getScoringRules()).thenReturn(rules);
+    when(scoreService.getScoringRules("fr")).thenReturn(rules);
 
     mockMvc
-        .perform(get("/api/v1/scores/rules"))
+        .perform(get("/api/v1/scores/rules").param("ruleSet", "fr"))
         .andExpect(status().isOk())
         .andExpect(jsonPath("$[0].letters").value("A"))
         .andExpect(jsonPath("$[0].points").value(1))
@@ -162,34 +436,111 @@ class ScoreControllerTest {
         .andExpect(jsonPath("$[2].letters").value("Q"))
         .andExpect(jsonPath("$[2].points").value(10));
 
-    verify(scoreService).getScoringRules();
+    verify(scoreService).getScoringRules("fr");
+  }
+
+  @Test
+  void reloadRuleSets_ShouldReturnRuleSetNames() throws Exception {
+    when(scoreService.reloadRuleSets()).thenReturn(List.of("de", "en", "es", "fr"));
+
+    mockMvc
+        .perform(post("/api/v1/scores/rule-sets:reload"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.length()").value(4))
+        .andExpect(jsonPath("$[1]").value("en"));
+  }
+
+  @Test
+  void getLeaderboard_ShouldPassCursorAndSize() throws Exception {
+    TopScorePageDTO response =
+        TopScorePageDTO.builder()
+            .items(List.of(TopScoreDTO.builder().rank(11).letters("HELLO").score(8).build()))
+            .nextCursor("next")
+            .build();
+
+    when(scoreService.findTopScores("abc", 1)).thenReturn(response);
+
+    mockMvc
+        .perform(get("/api/v1/scores/leaderboard").param("cursor", "abc").param("size", "1"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.items[0].rank").value(11))
+        .andExpect(jsonPath("$.nextCursor").value("next"));
+  }
+
+  @Test
+  void getRank_ShouldReturnRankOfSavedScore() throws Exception {
+    UUID id = UUID.randomUUID();
+    ScoreRankDTO rank =
+        ScoreRankDTO.builder().id(id).points(22).rank(2L).total(40L).percentile(97.5).build();
+    when(scoreService.findRank(id)).thenReturn(rank);
+
+    mockMvc
+        .perform(get("/api/v1/scores/{id}/rank", id))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.id").value(id.toString()))
+        .andExpect(jsonPath("$.rank").value(2))
+        .andExpect(jsonPath("$.percentile").value(97.5));
+  }
+
+  @Test
+  void getRankOfPoints_ShouldOmitId() throws Exception {
+    ScoreRankDTO rank =
+        ScoreRankDTO.builder().points(22).rank(2L).total(40L).percentile(97.5).build();
+    when(scoreService.findRank(22)).thenReturn(rank);
+
+    mockMvc
+        .perform(get("/api/v1/scores/rank").param("points", "22"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.id").doesNotExist())
+        .andExpect(jsonPath("$.total").value(40));
   }
 
   @Test
   void deleteScores_ShouldDeleteSpecifiedScores() throws Exception {
     List<UUID> idsToDelete = Arrays.asList(UUID.randomUUID(), UUID.randomUUID());
+    when(scoreService.deleteByIds(anyList()))
+        .thenReturn(ScoreDeleteDTO.builder().deleted(2).build());
 
     mockMvc
         .perform(
             delete("/api/v1/scores")
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(objectMapper.writeValueAsString(idsToDelete)))
-        .andExpect(status().isNoContent());
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.deleted").value(2));
 
     verify(scoreService).deleteByIds(anyList());
   }
 
   @Test
-  void deleteScores_WithEmptyList_ShouldReturnNoContent() throws Exception {
+  void deleteScores_WithEmptyList_ShouldReportNothingDeleted() throws Exception {
     List<UUID> emptyList = Arrays.asList();
+    when(scoreService.deleteByIds(anyList()))
+        .thenReturn(ScoreDeleteDTO.builder().deleted(0).build());
 
     mockMvc
         .perform(
             delete("/api/v1/scores")
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(objectMapper.writeValueAsString(emptyList)))
-        .andExpect(status().isNoContent());
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.deleted").value(0));
 
     verify(scoreService).deleteByIds(anyList());
   }
+
+  @Test
+  void purgeScores_ShouldPassConditionsToService() throws Exception {
+    LocalDateTime createdBefore = LocalDateTime.of(2025, 1, 1, 0, 0);
+    when(scoreService.purge(createdBefore, 5))
+        .thenReturn(ScoreDeleteDTO.builder().deleted(42).build());
+
+    mockMvc
+        .perform(
+            delete("/api/v1/scores/purge")
+                .param("createdBefore", "2025-01-01T00:00:00")
+                .param("pointsBelow", "5"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.deleted").value(42));
+  }
 }
@@ -0,0 +1,57 @@
+package com.scrabble.score;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ScoreHistogramTest {
+
+  private ScoreHistogram histogram;
+
+  @BeforeEach
+  void setUp() {
+    histogram = new ScoreHistogram();
+    histogram.add(5, 3);
+    histogram.add(8, 1);
+    histogram.add(22, 2);
+  }
+
+  @Test
+  void countAbove_ShouldCountStrictlyHigherScores() {
+    assertEquals(6, histogram.total());
+    assertEquals(6, histogram.countAbove(-1));
+    assertEquals(3, histogram.countAbove(5));
+    assertEquals(2, histogram.countAbove(8));
+    assertEquals(2, histogram.countAbove(21));
+    assertEquals(0, histogram.countAbove(22));
+    assertEquals(0, histogram.countAbove(1_000));
+  }
+
+  @Test
+  void add_ShouldRemoveScoresWithNegativeDelta() {
+    histogram.add(22, -1);
+    histogram.add(5, -3);
+
+    assertEquals(2, histogram.total());
+    assertEquals(1, histogram.countAbove(8));
+    assertEquals(0, histogram.countAtMost(5));
+  }
+
+  @Test
+  void add_ShouldGrowForHighScores() {
+    histogram.add(300, 1);
+    histogram.add(129, 1);
+
+    assertEquals(8, histogram.total());
+    assertEquals(2, histogram.countAbove(22));
+    assertEquals(1, histogram.countAbove(129));
+    assertEquals(7, histogram.countAtMost(299));
+  }
+
+  @Test
+  void add_ShouldRejectNegativePoints() {
+    assertThrows(IllegalArgumentException.class, () -> histogram.add(-1, 1));
+  }
+}
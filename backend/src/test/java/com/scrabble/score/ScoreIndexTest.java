@@ -0,0 +1,82 @@
+package com.scrabble.score;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.scrabble.dictionary.Lexicon;
+import com.scrabble.score.dto.ScoringRuleDTO;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class ScoreIndexTest {
+
+  private static final Lexicon LEXICON =
+      Lexicon.of(List.of("A AZ CAT IT QI QUIT QUITS QUIZ QUIZZES SUIT TI ZA".split(" ")));
+
+  private final ScoringTable scoringTable =
+      new ScoringRulesServiceImpl(new ScoreProperties()).getScoringTable();
+  private final ScoreIndex index = ScoreIndex.build(LEXICON, scoringTable);
+
+  @Test
+  void find_ShouldListAllWordsByScoreThenLengthThenAlphabetically() {
+    assertEquals(
+        "QUIZZES:34 QUIZ:22 QUITS:14 QUIT:13 AZ:11 QI:11 ZA:11 CAT:5 SUIT:4 IT:2 TI:2 A:1",
+        describe(index, index.find(0, Integer.MAX_VALUE, 0, Integer.MAX_VALUE, 0, 100)));
+  }
+
+  @Test
+  void find_ShouldRestrictToScoreRange() {
+    assertEquals(
+        "QUITS:14 QUIT:13 AZ:11 QI:11 ZA:11",
+        describe(index, index.find(11, 14, 0, Integer.MAX_VALUE, 0, 100)));
+    assertEquals(5, index.count(11, 14, 0, Integer.MAX_VALUE));
+  }
+
+  @Test
+  void find_ShouldRestrictToLengthRange() {
+    assertEquals(
+        "QUIT:13 CAT:5 SUIT:4",
+        describe(index, index.find(0, Integer.MAX_VALUE, 3, 4, 0, 100)));
+    assertEquals(3, index.count(0, Integer.MAX_VALUE, 3, 4));
+  }
+
+  @Test
+  void find_ShouldPageAcrossScores() {
+    assertEquals(
+        "QUIT:13 AZ:11 QI:11",
+        describe(index, index.find(0, Integer.MAX_VALUE, 0, Integer.MAX_VALUE, 3, 3)));
+    assertEquals("", describe(index, index.find(0, Integer.MAX_VALUE, 0, 100, 12, 3)));
+  }
+
+  @Test
+  void find_ShouldReturnNothingOutsideIndexedRange() {
+    assertEquals(0, index.count(100, 200, 0, Integer.MAX_VALUE));
+    assertEquals(0, index.count(0, Integer.MAX_VALUE, 20, 30));
+  }
+
+  @Test
+  void rescore_ShouldMatchFullRebuildForNewRules() {
+    ScoringTable cheapQz =
+        ScoringTable.compile(
+            List.of(
+                ScoringRuleDTO.builder().points(1).letters("AEIOULNSTRQZ").build(),
+                ScoringRuleDTO.builder().points(3).letters("C").build()));
+
+    ScoreIndex rescored = index.rescore(cheapQz);
+    ScoreIndex rebuilt = ScoreIndex.build(LEXICON, cheapQz);
+
+    assertSame(cheapQz, rescored.scoringTable());
+    String all = describe(rescored, rescored.find(0, 1000, 0, 100, 0, 100));
+    assertEquals(describe(rebuilt, rebuilt.find(0, 1000, 0, 100, 0, 100)), all);
+    assertTrue(all.startsWith("QUIZZES:7 CAT:5 QUITS:5 QUIT:4 QUIZ:4 SUIT:4 "), all);
+  }
+
+  private static String describe(ScoreIndex index, int[] words) {
+    return IntStream.of(words)
+        .mapToObj(word -> index.lexicon().word(word) + ":" + index.score(word))
+        .collect(Collectors.joining(" "));
+  }
+}
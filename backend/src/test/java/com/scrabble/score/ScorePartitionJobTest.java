@@ -0,0 +1,215 @@
+package com.scrabble.score;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+class ScorePartitionJobTest {
+
+  private static final YearMonth CURRENT = YearMonth.of(2025, 3);
+  private static final LocalDateTime APRIL = LocalDateTime.of(2025, 4, 1, 0, 0);
+  private static final LocalDateTime MAY = LocalDateTime.of(2025, 5, 1, 0, 0);
+
+  @Mock private JdbcTemplate jdbcTemplate;
+
+  @Mock private PlatformTransactionManager transactionManager;
+
+  @Mock private LeaderboardCache leaderboardCache;
+
+  @Mock private ScoreRankTracker scoreRankTracker;
+
+  private ScoreProperties scoreProperties;
+
+  @BeforeEach
+  void setUp() {
+    scoreProperties = new ScoreProperties();
+    scoreProperties.getPartitions().setMonthsAhead(1);
+  }
+
+  @Test
+  void maintain_ShouldCreateMissingPartitionsAhead() {
+    // Arrange
+    givenPartitions("scores_default", "scores_p202503");
+    givenDefaultHasRows(YearMonth.of(2025, 4), false);
+
+    // Act
+    job().maintain(CURRENT);
+
+    // Assert
+    verify(jdbcTemplate)
+        .execute(
+            "CREATE TABLE scores_p202504 PARTITION OF scores"
+                + " FOR VALUES FROM ('2025-04-01') TO ('2025-05-01')");
+    verify(leaderboardCache, never()).reload();
+  }
+
+  @Test
+  void maintain_ShouldMoveRowsOutOfDefaultPartitionIntoNewPartition() {
+    // Arrange
+    givenPartitions("scores_default", "scores_p202503");
+    givenDefaultHasRows(YearMonth.of(2025, 4), true);
+    String move = String.format(ScorePartitionJob.MOVE_DEFAULT_ROWS_SQL, "scores_p202504");
+    when(jdbcTemplate.update(move, APRIL, MAY)).thenReturn(3);
+
+    // Act
+    job().maintain(CURRENT);
+
+    // Assert
+    InOrder inOrder = inOrder(jdbcTemplate);
+    inOrder.verify(jdbcTemplate).execute("ALTER TABLE scores DETACH PARTITION scores_default");
+    inOrder
+        .verify(jdbcTemplate)
+        .execute(
+            "CREATE TABLE scores_p202504 PARTITION OF scores"
+                + " FOR VALUES FROM ('2025-04-01') TO ('2025-05-01')");
+    inOrder.verify(jdbcTemplate).update(move, APRIL, MAY);
+    inOrder
+        .verify(jdbcTemplate)
+        .execute("ALTER TABLE scores ATTACH PARTITION scores_default DEFAULT");
+    verify(leaderboardCache, never()).reload();
+  }
+
+  @Test
+  void maintain_ShouldArchiveExpiredRowsOfDefaultPartition() {
+    // Arrange
+    scoreProperties.getPartitions().setRetentionMonths(2);
+    givenPartitions("scores_default", "scores_p202503", "scores_p202504");
+    when(jdbcTemplate.queryForList(
+            ScorePartitionJob.EXPIRED_DEFAULT_MONTHS_SQL,
+            LocalDateTime.class,
+            LocalDateTime.of(2025, 2, 1, 0, 0)))
+        .thenReturn(List.of(LocalDateTime.of(2024, 12, 1, 0, 0)));
+    String move =
+        String.format(ScorePartitionJob.MOVE_DEFAULT_ROWS_SQL, "\"archive\".scores_p202412");
+    when(jdbcTemplate.update(
+            move, LocalDateTime.of(2024, 12, 1, 0, 0), LocalDateTime.of(2025, 1, 1, 0, 0)))
+        .thenReturn(2);
+
+    // Act
+    job().maintain(CURRENT);
+
+    // Assert
+    verify(jdbcTemplate)
+        .execute("CREATE TABLE IF NOT EXISTS \"archive\".scores_p202412 (LIKE scores)");
+    verify(leaderboardCache).reload();
+    verify(scoreRankTracker).reload();
+  }
+
+  @Test
+  void maintain_WithoutArchiveSchema_ShouldDeleteExpiredRowsOfDefaultPartition() {
+    // Arrange
+    scoreProperties.getPartitions().setRetentionMonths(1);
+    scoreProperties.getPartitions().setArchiveSchema("");
+    givenPartitions("scores_default", "scores_p202503", "scores_p202504");
+    when(jdbcTemplate.update(
+            ScorePartitionJob.DELETE_EXPIRED_DEFAULT_SQL, LocalDateTime.of(2025, 3, 1, 0, 0)))
+        .thenReturn(4);
+
+    // Act
+    job().maintain(CURRENT);
+
+    // Assert
+    verify(leaderboardCache).reload();
+    verify(scoreRankTracker).reload();
+  }
+
+  @Test
+  void maintain_ShouldArchivePartitionsPastRetention() {
+    // Arrange
+    scoreProperties.getPartitions().setRetentionMonths(2);
+    givenPartitions("scores_p202501", "scores_p202502", "scores_p202503", "scores_p202504");
+
+    // Act
+    job().maintain(CURRENT);
+
+    // Assert
+    verify(jdbcTemplate).execute("ALTER TABLE scores DETACH PARTITION scores_p202501");
+    verify(jdbcTemplate).execute("CREATE SCHEMA IF NOT EXISTS \"archive\"");
+    verify(jdbcTemplate).execute("ALTER TABLE scores_p202501 SET SCHEMA \"archive\"");
+    verify(jdbcTemplate, never()).execute("ALTER TABLE scores DETACH PARTITION scores_p202502");
+    verify(leaderboardCache).reload();
+    verify(scoreRankTracker).reload();
+  }
+
+  @Test
+  void maintain_WithoutArchiveSchema_ShouldDropExpiredPartitions() {
+    // Arrange
+    scoreProperties.getPartitions().setRetentionMonths(1);
+    scoreProperties.getPartitions().setArchiveSchema("");
+    givenPartitions("scores_p202502", "scores_p202503", "scores_p202504");
+
+    // Act
+    job().maintain(CURRENT);
+
+    // Assert
+    verify(jdbcTemplate).execute("ALTER TABLE scores DETACH PARTITION scores_p202502");
+    verify(jdbcTemplate).execute("DROP TABLE scores_p202502");
+    verify(leaderboardCache).reload();
+  }
+
+  @Test
+  void maintain_ShouldSkipWhenAnotherInstanceHoldsTheLock() {
+    // Arrange
+    when(jdbcTemplate.queryForObject(
+            ScorePartitionJob.LOCK_SQL, Boolean.class, ScorePartitionJob.LOCK_KEY))
+        .thenReturn(false);
+
+    // Act
+    job().maintain(CURRENT);
+
+    // Assert
+    verify(jdbcTemplate, never()).execute(anyString());
+    verify(leaderboardCache, never()).reload();
+  }
+
+  @Test
+  void missing_ShouldListMonthsWithoutPartitionUpToMonthsAhead() {
+    assertEquals(
+        List.of(YearMonth.of(2025, 3), YearMonth.of(2025, 5)),
+        ScorePartitionJob.missing(Set.of(YearMonth.of(2025, 4)), CURRENT, 2));
+  }
+
+  @Test
+  void expired_ShouldKeepEverythingWithoutRetention() {
+    assertEquals(List.of(), ScorePartitionJob.expired(Set.of(YearMonth.of(2020, 1)), CURRENT, 0));
+  }
+
+  private ScorePartitionJob job() {
+    return new ScorePartitionJob(
+        jdbcTemplate, transactionManager, scoreProperties, leaderboardCache, scoreRankTracker);
+  }
+
+  private void givenDefaultHasRows(YearMonth month, boolean hasRows) {
+    when(jdbcTemplate.queryForObject(
+            ScorePartitionJob.DEFAULT_HAS_ROWS_SQL,
+            Boolean.class,
+            month.atDay(1).atStartOfDay(),
+            month.plusMonths(1).atDay(1).atStartOfDay()))
+        .thenReturn(hasRows);
+  }
+
+  private void givenPartitions(String... names) {
+    when(jdbcTemplate.queryForObject(
+            ScorePartitionJob.LOCK_SQL, Boolean.class, ScorePartitionJob.LOCK_KEY))
+        .thenReturn(true);
+    when(jdbcTemplate.queryForList(ScorePartitionJob.PARTITIONS_SQL, String.class))
+        .thenReturn(List.of(names));
+  }
+}
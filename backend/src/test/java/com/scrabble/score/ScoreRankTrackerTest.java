@@ -0,0 +1,162 @@
+package com.scrabble.score;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+class ScoreRankTrackerTest {
+
+  @Mock private ScoreRepository scoreRepository;
+
+  @Mock private PlatformTransactionManager transactionManager;
+
+  private final ExecutorService executor = Executors.newCachedThreadPool();
+
+  private ScoreRankTracker scoreRankTracker;
+
+  @BeforeEach
+  void setUp() {
+    scoreRankTracker = new ScoreRankTracker(scoreRepository, transactionManager);
+  }
+
+  @AfterEach
+  void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  void rank_ShouldBeEmptyBeforeLoad() {
+    try (ScoreRankTracker.Write write = scoreRankTracker.beginWrite()) {
+      write.added(List.of(Score.builder().points(8).build()));
+    }
+
+    assertTrue(scoreRankTracker.rank(8).isEmpty());
+  }
+
+  @Test
+  void rank_ShouldFollowCreatesAndDeletesAfterLoad() {
+    when(scoreRepository.countByPoints())
+        .thenReturn(List.of(pointsCount(5, 3), pointsCount(22, 1)));
+    scoreRankTracker.warmUp();
+
+    assertEquals(Optional.of(new ScoreRankTracker.Rank(1, 4)), scoreRankTracker.rank(8));
+
+    try (ScoreRankTracker.Write write = scoreRankTracker.beginWrite()) {
+      write.added(List.of(Score.builder().points(9).build(), Score.builder().points(30).build()));
+      write.removed(List.of(22));
+    }
+
+    assertEquals(Optional.of(new ScoreRankTracker.Rank(2, 5)), scoreRankTracker.rank(8));
+    assertEquals(Optional.of(new ScoreRankTracker.Rank(0, 5)), scoreRankTracker.rank(30));
+  }
+
+  @Test
+  void warmUp_ShouldLoadInReadWriteTransaction() {
+    when(scoreRepository.countByPoints()).thenReturn(List.of(pointsCount(5, 3)));
+
+    scoreRankTracker.warmUp();
+
+    // A read-only transaction may be routed to a lagging replica
+    verify(transactionManager).getTransaction(argThat(definition -> !definition.isReadOnly()));
+    assertEquals(Optional.of(new ScoreRankTracker.Rank(0, 3)), scoreRankTracker.rank(5));
+  }
+
+  @Test
+  void reload_ShouldWaitForOpenWritesSoNoScoreIsCountedTwice() throws Exception {
+    // The scores table: a write's rows are visible to a reload as soon as it commits
+    List<Integer> table = new CopyOnWriteArrayList<>();
+    when(scoreRepository.countByPoints()).thenAnswer(invocation -> countByPoints(table));
+    scoreRankTracker.warmUp();
+
+    CompletableFuture<Void> reload;
+    try (ScoreRankTracker.Write write = scoreRankTracker.beginWrite()) {
+      table.add(8);
+      // Committed but not yet counted in: a reload reading the table now would count it twice
+      reload = CompletableFuture.runAsync(scoreRankTracker::reload, executor);
+      Thread.sleep(200);
+      assertFalse(reload.isDone());
+      write.added(List.of(Score.builder().points(8).build()));
+    }
+    reload.get(5, TimeUnit.SECONDS);
+
+    assertEquals(Optional.of(new ScoreRankTracker.Rank(0, 1)), scoreRankTracker.rank(8));
+    verify(scoreRepository, times(2)).countByPoints();
+  }
+
+  @Test
+  void beginWrite_ShouldWaitForReloadReadingTheTable() throws Exception {
+    CountDownLatch reading = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    when(scoreRepository.countByPoints())
+        .thenAnswer(
+            invocation -> {
+              reading.countDown();
+              release.await();
+              return List.of(pointsCount(5, 3));
+            });
+    CompletableFuture<Void> reload = CompletableFuture.runAsync(scoreRankTracker::reload, executor);
+    reading.await();
+
+    CompletableFuture<Void> write =
+        CompletableFuture.runAsync(
+            () -> {
+              try (ScoreRankTracker.Write rankWrite = scoreRankTracker.beginWrite()) {
+                rankWrite.added(List.of(Score.builder().points(9).build()));
+              }
+            },
+            executor);
+    Thread.sleep(200);
+    assertFalse(write.isDone());
+    release.countDown();
+    reload.get(5, TimeUnit.SECONDS);
+    write.get(5, TimeUnit.SECONDS);
+
+    // Counted into the loaded histogram, not into the one it replaced
+    assertEquals(Optional.of(new ScoreRankTracker.Rank(1, 4)), scoreRankTracker.rank(5));
+  }
+
+  private static List<ScoreRepository.PointsCount> countByPoints(List<Integer> table) {
+    Map<Integer, Long> counts =
+        table.stream().collect(Collectors.groupingBy(points -> points, Collectors.counting()));
+    return counts.entrySet().stream()
+        .map(entry -> pointsCount(entry.getKey(), entry.getValue()))
+        .toList();
+  }
+
+  private static ScoreRepository.PointsCount pointsCount(int points, long count) {
+    return new ScoreRepository.PointsCount() {
+      @Override
+      public int getPoints() {
+        return points;
+      }
+
+      @Override
+      public long getCount() {
+        return count;
+      }
+    };
+  }
+}
@@ -0,0 +1,132 @@
+package com.scrabble.score;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+class ScoreRepositoryCustomImplTest {
+
+  @Mock private JdbcTemplate jdbcTemplate;
+
+  @Mock private PlatformTransactionManager transactionManager;
+
+  private ScoreRepositoryCustomImpl scoreRepository;
+
+  @BeforeEach
+  void setUp() {
+    ScoreProperties scoreProperties = new ScoreProperties();
+    scoreProperties.setBatchSize(2);
+    scoreRepository =
+        new ScoreRepositoryCustomImpl(jdbcTemplate, transactionManager, scoreProperties);
+  }
+
+  @Test
+  void insertAll_ShouldBatchInsertEveryChunkInOneTransaction() {
+    // Arrange
+    List<Score> scores = new ArrayList<>();
+    for (int i = 0; i < 5; i++) {
+      scores.add(Score.builder().letters("HELLO").points(8).build());
+    }
+
+    // Act
+    scoreRepository.insertAll(scores);
+
+    // Assert
+    verify(transactionManager, times(1)).getTransaction(any());
+    verify(transactionManager, times(1)).commit(any());
+    verify(jdbcTemplate, times(2))
+        .batchUpdate(
+            anyString(), anyList(), eq(2), any(ParameterizedPreparedStatementSetter.class));
+    verify(jdbcTemplate, times(1))
+        .batchUpdate(
+            anyString(), anyList(), eq(1), any(ParameterizedPreparedStatementSetter.class));
+    for (Score score : scores) {
+      assertNotNull(score.getId());
+      assertNotNull(score.getCreatedAt());
+    }
+  }
+
+  @Test
+  void insertAll_ShouldDoNothingForEmptyList() {
+    // Act
+    scoreRepository.insertAll(List.of());
+
+    // Assert
+    verify(jdbcTemplate, times(0))
+        .batchUpdate(
+            anyString(), anyList(), anyInt(), any(ParameterizedPreparedStatementSetter.class));
+  }
+
+  @Test
+  void deleteAllByIds_ShouldDeleteDistinctIdsAndReportTheirPoints() {
+    // Arrange
+    UUID first = UUID.randomUUID();
+    UUID second = UUID.randomUUID();
+    UUID third = UUID.randomUUID();
+    when(jdbcTemplate.queryForList(
+            "SELECT points FROM scores WHERE id IN (?, ?) FOR UPDATE",
+            Integer.class,
+            first,
+            second))
+        .thenReturn(List.of(8, 22));
+    when(jdbcTemplate.queryForList(
+            "SELECT points FROM scores WHERE id IN (?) FOR UPDATE", Integer.class, third))
+        .thenReturn(List.of());
+
+    // Act
+    List<Integer> deleted = scoreRepository.deleteAllByIds(List.of(first, second, first, third));
+
+    // Assert
+    assertEquals(List.of(8, 22), deleted);
+    verify(jdbcTemplate).update("DELETE FROM scores WHERE id IN (?, ?)", first, second);
+    verify(jdbcTemplate).update("DELETE FROM scores WHERE id IN (?)", third);
+    verify(transactionManager, times(2)).commit(any());
+  }
+
+  @Test
+  void deleteAllMatching_ShouldDeleteInChunksUntilNoneAreLeft() {
+    // Arrange
+    LocalDateTime createdBefore = LocalDateTime.of(2025, 1, 1, 0, 0);
+    when(jdbcTemplate.update(
+            eq(
+                "DELETE FROM scores WHERE id IN (SELECT id FROM scores"
+                    + " WHERE created_at < ? AND points < ? LIMIT ?)"),
+            any(Object[].class)))
+        .thenReturn(2, 2, 1);
+
+    // Act
+    int deleted = scoreRepository.deleteAllMatching(createdBefore, 5);
+
+    // Assert
+    assertEquals(5, deleted);
+    verify(transactionManager, times(3)).commit(any());
+  }
+
+  @Test
+  void deleteAllMatching_WithoutConditions_ShouldThrowException() {
+    assertThrows(
+        IllegalArgumentException.class, () -> scoreRepository.deleteAllMatching(null, null));
+  }
+}
@@ -0,0 +1,229 @@
+package com.scrabble.score;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Runs the native statements of {@link ScoreRepositoryCustomImpl} against H2. The batch size is
+ * two so every operation spans several chunks, and no test transaction is open, so each chunk
+ * commits on its own as it does in production.
+ */
+@DataJpaTest
+@ActiveProfiles("ci")
+@TestPropertySource(properties = "scrabble.score.batch-size=2")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ScoreRepositoryJdbcTest {
+
+  private static final LocalDateTime NOW = LocalDateTime.of(2025, 6, 1, 12, 0);
+
+  @Autowired private ScoreRepository scoreRepository;
+
+  @BeforeEach
+  void setUp() {
+    scoreRepository.deleteAllInBatch();
+  }
+
+  @Test
+  void insertAll_ShouldSaveEveryChunk() {
+    // Arrange
+    List<Score> scores = new ArrayList<>();
+    for (int i = 0; i < 5; i++) {
+      scores.add(Score.builder().letters("WORD" + i).points(i).build());
+    }
+
+    // Act
+    scoreRepository.insertAll(scores);
+
+    // Assert
+    assertEquals(5, scoreRepository.count());
+    assertEquals(List.of(0, 1, 2, 3, 4), points(scoreRepository.findAll()));
+  }
+
+  @Test
+  void deleteAllByIds_ShouldDeleteOnlyExistingIdsAcrossChunks() {
+    // Arrange
+    List<Score> scores = save(List.of(8, 22, 5, 1, 14));
+    List<UUID> ids =
+        List.of(
+            scores.get(0).getId(),
+            scores.get(1).getId(),
+            scores.get(0).getId(),
+            UUID.randomUUID(),
+            scores.get(3).getId());
+
+    // Act
+    List<Integer> deleted = scoreRepository.deleteAllByIds(ids);
+
+    // Assert
+    assertEquals(List.of(1, 8, 22), deleted.stream().sorted().toList());
+    assertEquals(List.of(5, 14), points(scoreRepository.findAll()));
+  }
+
+  @Test
+  void deleteAllByIds_WithNoIds_ShouldDeleteNothing() {
+    // Arrange
+    save(List.of(8));
+
+    // Act
+    List<Integer> deleted = scoreRepository.deleteAllByIds(List.of());
+
+    // Assert
+    assertEquals(List.of(), deleted);
+    assertEquals(1, scoreRepository.count());
+  }
+
+  @Test
+  void deleteAllMatching_ShouldDeleteEveryMatchingRowInChunks() {
+    // Arrange
+    save(List.of(1, 2, 3, 4, 10, 20));
+    saveCreatedAt(NOW.minusDays(10), 30);
+    saveCreatedAt(NOW.minusDays(10), 3);
+
+    // Act
+    int deleted = scoreRepository.deleteAllMatching(null, 5);
+
+    // Assert
+    assertEquals(5, deleted);
+    assertEquals(List.of(10, 20, 30), points(scoreRepository.findAll()));
+  }
+
+  @Test
+  void deleteAllMatching_ShouldApplyBothConditions() {
+    // Arrange
+    save(List.of(1, 2, 30));
+    saveCreatedAt(NOW.minusDays(10), 1);
+    saveCreatedAt(NOW.minusDays(10), 2);
+    saveCreatedAt(NOW.minusDays(10), 30);
+
+    // Act
+    int deleted = scoreRepository.deleteAllMatching(NOW.minusDays(1), 5);
+
+    // Assert
+    assertEquals(2, deleted);
+    assertEquals(List.of(1, 2, 30, 30), points(scoreRepository.findAll()));
+  }
+
+  @Test
+  void deleteAllMatching_WithExactChunkMultiple_ShouldStopWhenNothingIsLeft() {
+    // Arrange
+    save(List.of(1, 2, 3, 4));
+
+    // Act
+    int deleted = scoreRepository.deleteAllMatching(NOW.plusDays(1), null);
+
+    // Assert
+    assertEquals(4, deleted);
+    assertEquals(0, scoreRepository.count());
+  }
+
+  @Test
+  void leaderboardOrder_ForTiedScores_ShouldMatchTheCacheAcrossItsBoundary() {
+    // Arrange
+    List<Score> scores = saveTied();
+    Leaderboard cached = new Leaderboard(2);
+    cached.load(scoreRepository.findSliceBy(leaderboardPage(0)).getContent());
+
+    // Act: the first page from the cache, the rest from the database
+    List<UUID> paged = new ArrayList<>(ids(cached.page(0, 2)));
+    paged.addAll(ids(scoreRepository.findSliceBy(leaderboardPage(1)).getContent()));
+    paged.addAll(ids(scoreRepository.findSliceBy(leaderboardPage(2)).getContent()));
+
+    // Assert
+    List<UUID> expected = ids(scores.stream().sorted(Leaderboard.ORDER).toList());
+    assertEquals(UUID.fromString("ffffffff-0000-0000-0000-000000000000"), expected.get(0));
+    assertEquals(expected, paged);
+    assertEquals(expected, ids(scoreRepository.findLeaderboardFirstPage(Limit.of(5))));
+    assertEquals(
+        expected.subList(2, 5),
+        ids(scoreRepository.findLeaderboardPageAfter(10, NOW, expected.get(1), 5)));
+  }
+
+  @Test
+  void windowOrder_ForTiedScores_ShouldMatchTheCacheAcrossItsBoundary() {
+    // Arrange
+    List<Score> scores = saveTied();
+    saveCreatedAt(NOW.minusDays(10), 10);
+    LocalDateTime start = NOW.minusDays(1);
+    Leaderboard cached = new Leaderboard(2);
+    cached.load(windowPage(start, 0));
+
+    // Act: the first page from the cache, the rest from the database
+    List<UUID> paged = new ArrayList<>(ids(cached.page(0, 2)));
+    paged.addAll(ids(windowPage(start, 1)));
+    paged.addAll(ids(windowPage(start, 2)));
+
+    // Assert
+    assertEquals(ids(scores.stream().sorted(Leaderboard.ORDER).toList()), paged);
+  }
+
+  /** Saves scores tied on points and createdAt, half of them with the sign bit of the id set. */
+  private List<Score> saveTied() {
+    List<Score> scores = new ArrayList<>();
+    for (String id :
+        List.of(
+            "80000000-0000-0000-0000-000000000001",
+            "7fffffff-ffff-ffff-ffff-ffffffffffff",
+            "ffffffff-0000-0000-0000-000000000000",
+            "00000000-0000-0000-0000-000000000001",
+            "c0000000-0000-0000-0000-000000000000")) {
+      scores.add(
+          Score.builder().id(UUID.fromString(id)).letters("TIE").points(10).createdAt(NOW).build());
+    }
+    scoreRepository.insertAll(scores);
+    return scores;
+  }
+
+  private List<Score> save(List<Integer> points) {
+    List<Score> scores = new ArrayList<>();
+    for (int value : points) {
+      scores.add(Score.builder().letters("WORD").points(value).createdAt(NOW).build());
+    }
+    scoreRepository.insertAll(scores);
+    return scores;
+  }
+
+  private void saveCreatedAt(LocalDateTime createdAt, int points) {
+    scoreRepository.insertAll(
+        List.of(Score.builder().letters("OLD").points(points).createdAt(createdAt).build()));
+  }
+
+  private static Pageable leaderboardPage(int page) {
+    return PageRequest.of(page, 2, LeaderboardCache.LEADERBOARD_SORT);
+  }
+
+  private List<Score> windowPage(LocalDateTime start, int page) {
+    return scoreRepository
+        .findSliceByCreatedAtGreaterThanEqual(start, leaderboardPage(page))
+        .getContent();
+  }
+
+  private static List<UUID> ids(List<Score> scores) {
+    return scores.stream().map(Score::getId).toList();
+  }
+
+  private static List<Integer> points(List<Score> scores) {
+    return scores.stream().map(Score::getPoints).sorted(Comparator.naturalOrder()).toList();
+  }
+
+  @TestConfiguration
+  @EnableConfigurationProperties(ScoreProperties.class)
+  static class Config {}
+}
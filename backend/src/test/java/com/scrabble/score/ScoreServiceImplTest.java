@@ -1,34 +1,56 @@
 package com.scrabble.score;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.scrabble.dictionary.DictionaryService;
+import com.scrabble.score.dto.MoveDTO;
+import com.scrabble.score.dto.MoveScoreDTO;
+import com.scrabble.score.dto.RackWordDTO;
+import com.scrabble.score.dto.ScoreBatchComputeDTO;
+import com.scrabble.score.dto.ScoreBatchCreateDTO;
 import com.scrabble.score.dto.ScoreComputeDTO;
 import com.scrabble.score.dto.ScoreCreateDTO;
 import com.scrabble.score.dto.ScoreDTO;
+import com.scrabble.score.dto.ScoreDeleteDTO;
+import com.scrabble.score.dto.ScoreRankDTO;
 import com.scrabble.score.dto.ScoringRuleDTO;
 import com.scrabble.score.dto.TopScoreDTO;
+import com.scrabble.score.dto.TopScorePageDTO;
+import com.scrabble.score.dto.WordScoreDTO;
+import com.scrabble.score.dto.WordScorePageDTO;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
 
 @ExtendWith(MockitoExtension.class)
@@ -38,6 +60,20 @@ class ScoreServiceImplTest {
 
   @Mock private ScoringRulesService scoringRulesService;
 
+  @Mock private LeaderboardCache leaderboardCache;
+
+  @Mock private DictionaryService dictionaryService;
+
+  @Mock private RackSolverService rackSolverService;
+
+  @Mock private WordIndexService wordIndexService;
+
+  @Mock private MoveScoringService moveScoringService;
+
+  @Mock private ScoreRankTracker scoreRankTracker;
+
+  @Mock private ScoreRankTracker.Write rankWrite;
+
   @InjectMocks private ScoreServiceImpl scoreService;
 
   private Score scoreHello;
@@ -75,13 +111,15 @@ class ScoreServiceImplTest {
   void findTopScores_ShouldReturnCorrectRanking() {
     // Arrange
     List<Score> scores = Arrays.asList(scoreWorld, scoreHello, scoreTest); // Ordered by points desc
-    Page<Score> scorePage = new PageImpl<>(scores);
+    Slice<Score> scorePage = new SliceImpl<>(scores);
     Pageable pageable = PageRequest.of(0, 10, Sort.by("points").descending());
+    // Ties page by id last, in the order the leaderboard cache keeps
+    Pageable tieBroken = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "points", "id"));
 
-    when(scoreRepository.findAll(pageable)).thenReturn(scorePage);
+    when(scoreRepository.findSliceBy(tieBroken)).thenReturn(scorePage);
 
     // Act
-    List<TopScoreDTO> result = scoreService.findTopScores(pageable);
+    List<TopScoreDTO> result = scoreService.findTopScores(pageable, null);
 
     // Assert
     assertEquals(3, result.size());
@@ -98,6 +136,113 @@ class ScoreServiceImplTest {
     assertEquals("TEST", result.get(2).getLetters());
   }
 
+  @Test
+  void findTopScores_ShouldServeFromLeaderboardCacheWithoutQuery() {
+    // Arrange
+    Pageable pageable = PageRequest.of(0, 10, LeaderboardCache.LEADERBOARD_SORT);
+    when(leaderboardCache.findPage(pageable, LeaderboardWindow.ALL))
+        .thenReturn(Optional.of(Arrays.asList(scoreWorld, scoreHello)));
+
+    // Act
+    List<TopScoreDTO> result = scoreService.findTopScores(pageable, null);
+
+    // Assert
+    assertEquals(2, result.size());
+    assertEquals("WORLD", result.get(0).getLetters());
+    verify(scoreRepository, never()).findSliceBy(any(Pageable.class));
+  }
+
+  @Test
+  void findTopScores_WithWindow_ShouldQueryScoresSinceWindowStart() {
+    // Arrange
+    Pageable pageable = PageRequest.of(0, 10, Sort.by("points").descending());
+    LocalDateTime today = LocalDateTime.now().truncatedTo(ChronoUnit.DAYS);
+    when(scoreRepository.findSliceByCreatedAtGreaterThanEqual(
+            any(LocalDateTime.class), any(Pageable.class)))
+        .thenReturn(new SliceImpl<>(Arrays.asList(scoreWorld)));
+
+    // Act
+    List<TopScoreDTO> result = scoreService.findTopScores(pageable, "day");
+
+    // Assert
+    assertEquals(1, result.size());
+    ArgumentCaptor<LocalDateTime> captor = ArgumentCaptor.forClass(LocalDateTime.class);
+    verify(scoreRepository)
+        .findSliceByCreatedAtGreaterThanEqual(
+            captor.capture(), eq(LeaderboardCache.withIdTieBreak(pageable)));
+    assertFalse(captor.getValue().isBefore(today));
+    verify(scoreRepository, never()).findSliceBy(any(Pageable.class));
+  }
+
+  @Test
+  void findTopScores_WithUnknownWindow_ShouldThrowException() {
+    // Arrange
+    Pageable pageable = PageRequest.of(0, 10, LeaderboardCache.LEADERBOARD_SORT);
+
+    // Act & Assert
+    IllegalArgumentException exception =
+        assertThrows(
+            IllegalArgumentException.class, () -> scoreService.findTopScores(pageable, "year"));
+    assertEquals("Unknown leaderboard window: year.", exception.getMessage());
+  }
+
+  @Test
+  void findTopScores_ShouldRankFromPageOffset() {
+    // Arrange
+    Pageable pageable = PageRequest.of(2, 10, Sort.by("points").descending());
+    when(scoreRepository.findSliceBy(LeaderboardCache.withIdTieBreak(pageable)))
+        .thenReturn(new SliceImpl<>(Arrays.asList(scoreWorld, scoreHello)));
+
+    // Act
+    List<TopScoreDTO> result = scoreService.findTopScores(pageable, null);
+
+    // Assert
+    assertEquals(21, result.get(0).getRank());
+    assertEquals(22, result.get(1).getRank());
+  }
+
+  @Test
+  void findTopScoresWithCursor_ShouldReturnFirstPageAndNextCursor() {
+    // Arrange
+    when(scoreRepository.findLeaderboardFirstPage(Limit.of(3)))
+        .thenReturn(Arrays.asList(scoreWorld, scoreHello, scoreTest));
+
+    // Act
+    TopScorePageDTO result = scoreService.findTopScores(null, 2);
+
+    // Assert
+    assertEquals(2, result.getItems().size());
+    assertEquals(1, result.getItems().get(0).getRank());
+    assertEquals("HELLO", result.getItems().get(1).getLetters());
+    assertNotNull(result.getNextCursor());
+  }
+
+  @Test
+  void findTopScoresWithCursor_ShouldSeekAfterCursorAndContinueRanks() {
+    // Arrange
+    String cursor = ScoreCursor.after(scoreHello, 2).encode();
+    when(scoreRepository.findLeaderboardPageAfter(
+            scoreHello.getPoints(), scoreHello.getCreatedAt(), scoreHello.getId(), 3))
+        .thenReturn(Arrays.asList(scoreTest));
+
+    // Act
+    TopScorePageDTO result = scoreService.findTopScores(cursor, 2);
+
+    // Assert
+    assertEquals(1, result.getItems().size());
+    assertEquals(3, result.getItems().get(0).getRank());
+    assertEquals("TEST", result.getItems().get(0).getLetters());
+    assertNull(result.getNextCursor());
+  }
+
+  @Test
+  void findTopScoresWithCursor_ShouldRejectInvalidCursorAndSize() {
+    assertThrows(
+        IllegalArgumentException.class, () -> scoreService.findTopScores("not-a-cursor", 10));
+    assertThrows(IllegalArgumentException.class, () -> scoreService.findTopScores(null, 0));
+    assertThrows(IllegalArgumentException.class, () -> scoreService.findTopScores(null, 101));
+  }
+
   @Test
   void findTopScores_ShouldThrowException_WhenInvalidSortField() {
     // Arrange
@@ -105,7 +250,8 @@ class ScoreServiceImplTest {
 
     // Act & Assert
     IllegalArgumentException exception =
-        assertThrows(IllegalArgumentException.class, () -> scoreService.findTopScores(pageable));
+        assertThrows(
+            IllegalArgumentException.class, () -> scoreService.findTopScores(pageable, null));
     assertTrue(exception.getMessage().contains("Invalid sort field: invalidField"));
   }
 
@@ -116,7 +262,8 @@ class ScoreServiceImplTest {
 
     // Act & Assert
     IllegalArgumentException exception =
-        assertThrows(IllegalArgumentException.class, () -> scoreService.findTopScores(pageable));
+        assertThrows(
+            IllegalArgumentException.class, () -> scoreService.findTopScores(pageable, null));
     assertTrue(exception.getMessage().contains("Page size cannot exceed 100"));
   }
 
@@ -124,44 +271,48 @@ class ScoreServiceImplTest {
   void findTopScores_ShouldAllowValidSortFields() {
     // Arrange
     List<Score> scores = Arrays.asList(scoreHello);
-    Page<Score> scorePage = new PageImpl<>(scores);
+    Slice<Score> scorePage = new SliceImpl<>(scores);
 
     // Test points sorting
     Pageable pageableByPoints = PageRequest.of(0, 10, Sort.by("points"));
-    when(scoreRepository.findAll(pageableByPoints)).thenReturn(scorePage);
+    when(scoreRepository.findSliceBy(LeaderboardCache.withIdTieBreak(pageableByPoints)))
+        .thenReturn(scorePage);
 
     // Test createdAt sorting
     Pageable pageableByCreatedAt = PageRequest.of(0, 10, Sort.by("createdAt"));
-    when(scoreRepository.findAll(pageableByCreatedAt)).thenReturn(scorePage);
+    when(scoreRepository.findSliceBy(LeaderboardCache.withIdTieBreak(pageableByCreatedAt)))
+        .thenReturn(scorePage);
 
     // Act & Assert - Should not throw exceptions
-    assertDoesNotThrow(() -> scoreService.findTopScores(pageableByPoints));
-    assertDoesNotThrow(() -> scoreService.findTopScores(pageableByCreatedAt));
+    assertDoesNotThrow(() -> scoreService.findTopScores(pageableByPoints, null));
+    assertDoesNotThrow(() -> scoreService.findTopScores(pageableByCreatedAt, null));
   }
 
   @Test
   void findTopScores_ShouldAllowMaxPageSize() {
     // Arrange
     List<Score> scores = Arrays.asList(scoreHello);
-    Page<Score> scorePage = new PageImpl<>(scores);
+    Slice<Score> scorePage = new SliceImpl<>(scores);
     Pageable pageable = PageRequest.of(0, 100, Sort.by("points"));
 
-    when(scoreRepository.findAll(pageable)).thenReturn(scorePage);
+    when(scoreRepository.findSliceBy(LeaderboardCache.withIdTieBreak(pageable)))
+        .thenReturn(scorePage);
 
     // Act & Assert - Should not throw exception
-    assertDoesNotThrow(() -> scoreService.findTopScores(pageable));
+    assertDoesNotThrow(() -> scoreService.findTopScores(pageable, null));
   }
 
   @Test
   void findTopScores_ShouldHandleEmptyResults() {
     // Arrange
-    Page<Score> emptyPage = new PageImpl<>(Arrays.asList());
+    Slice<Score> emptyPage = new SliceImpl<>(Arrays.asList());
     Pageable pageable = PageRequest.of(0, 10, Sort.by("points"));
 
-    when(scoreRepository.findAll(pageable)).thenReturn(emptyPage);
+    when(scoreRepository.findSliceBy(LeaderboardCache.withIdTieBreak(pageable)))
+        .thenReturn(emptyPage);
 
     // Act
-    List<TopScoreDTO> result = scoreService.findTopScores(pageable);
+    List<TopScoreDTO> result = scoreService.findTopScores(pageable, null);
 
     // Assert
     assertTrue(result.isEmpty());
@@ -174,14 +325,26 @@ class ScoreServiceImplTest {
         Arrays.asList(
             ScoringRuleDTO.builder().letters("A").points(1).build(),
             ScoringRuleDTO.builder().letters("B").points(3).build());
-    when(scoringRulesService.getScoringRules()).thenReturn(expectedRules);
+    when(scoringRulesService.getScoringRules(null)).thenReturn(expectedRules);
 
     // Act
-    List<ScoringRuleDTO> result = scoreService.getScoringRules();
+    List<ScoringRuleDTO> result = scoreService.getScoringRules(null);
 
     // Assert
     assertEquals(expectedRules, result);
-    verify(scoringRulesService, times(1)).getScoringRules();
+    verify(scoringRulesService, times(1)).getScoringRules(null);
+  }
+
+  @Test
+  void reloadRuleSets_ShouldReturnReloadedNames() {
+    // Arrange
+    when(scoringRulesService.reload()).thenReturn(List.of("de", "en", "fr"));
+
+    // Act
+    List<String> result = scoreService.reloadRuleSets();
+
+    // Assert
+    assertEquals(List.of("de", "en", "fr"), result);
   }
 
   @Test
@@ -190,16 +353,93 @@ class ScoreServiceImplTest {
     String letters = "HELLO";
     int expectedScore = 8;
     ScoreCreateDTO request = ScoreCreateDTO.builder().letters(letters).build();
-    when(scoringRulesService.computeScore(letters)).thenReturn(expectedScore);
+    when(scoringRulesService.computeScore(letters, null)).thenReturn(expectedScore);
 
     // Act
-    ScoreComputeDTO result = scoreService.computeScore(request);
+    ScoreComputeDTO result = scoreService.computeScore(request, false, null);
 
     // Assert
     assertNotNull(result);
     assertEquals(letters, result.getLetters());
     assertEquals(expectedScore, result.getScore());
-    verify(scoringRulesService, times(1)).computeScore(letters);
+    assertNull(result.getValid());
+    verify(scoringRulesService, times(1)).computeScore(letters, null);
+    verify(dictionaryService, never()).isValid(any());
+  }
+
+  @Test
+  void computeScore_WithValidate_ShouldReportDictionaryMembership() {
+    // Arrange
+    ScoreCreateDTO request = ScoreCreateDTO.builder().letters("QZXJ").build();
+    when(scoringRulesService.computeScore("QZXJ", null)).thenReturn(36);
+    when(dictionaryService.isValid("QZXJ")).thenReturn(false);
+
+    // Act
+    ScoreComputeDTO result = scoreService.computeScore(request, true, null);
+
+    // Assert
+    assertEquals(36, result.getScore());
+    assertEquals(false, result.getValid());
+  }
+
+  @Test
+  void findBestWords_ShouldDelegateToRackSolverService() {
+    // Arrange
+    ScoreCreateDTO request = ScoreCreateDTO.builder().letters("QUIZ?").build();
+    List<RackWordDTO> words = List.of(RackWordDTO.builder().word("QUIZ").score(22).build());
+    when(rackSolverService.findBestWords("QUIZ?", 5)).thenReturn(words);
+
+    // Act
+    List<RackWordDTO> result = scoreService.findBestWords(request, 5);
+
+    // Assert
+    assertEquals(words, result);
+  }
+
+  @Test
+  void computeMoveScore_ShouldDelegateToMoveScoringService() {
+    // Arrange
+    MoveDTO move = MoveDTO.builder().word("CAT").build();
+    MoveScoreDTO expected = MoveScoreDTO.builder().score(10).build();
+    when(moveScoringService.scoreMove(move, true, "en")).thenReturn(expected);
+
+    // Act
+    MoveScoreDTO result = scoreService.computeMoveScore(move, true, "en");
+
+    // Assert
+    assertEquals(expected, result);
+  }
+
+  @Test
+  void findWords_ShouldDelegateToWordIndexService() {
+    // Arrange
+    WordScorePageDTO page =
+        WordScorePageDTO.builder()
+            .items(List.of(WordScoreDTO.builder().word("QUIZ").score(22).build()))
+            .total(1)
+            .build();
+    when(wordIndexService.findWords(20, 25, null, 4, 0, 10)).thenReturn(page);
+
+    // Act
+    WordScorePageDTO result = scoreService.findWords(20, 25, null, 4, 0, 10);
+
+    // Assert
+    assertEquals(page, result);
+  }
+
+  @Test
+  void computeScores_ShouldDelegateBatchToScoringRulesService() {
+    // Arrange
+    List<String> letters = List.of("HELLO", "WORLD");
+    ScoreBatchCreateDTO request = ScoreBatchCreateDTO.builder().letters(letters).build();
+    when(scoringRulesService.computeScores(letters, "fr")).thenReturn(new int[] {8, 9});
+
+    // Act
+    ScoreBatchComputeDTO result = scoreService.computeScores(request, "fr");
+
+    // Assert
+    assertArrayEquals(new int[] {8, 9}, result.getScores());
+    verify(scoringRulesService, times(1)).computeScores(letters, "fr");
   }
 
   @Test
@@ -223,9 +463,10 @@ class ScoreServiceImplTest {
 
     when(scoringRulesService.computeScore(inputLetters)).thenReturn(computedScore);
     when(scoreRepository.save(any(Score.class))).thenReturn(savedScore);
+    when(scoreRankTracker.beginWrite()).thenReturn(rankWrite);
 
     // Act
-    ScoreDTO result = scoreService.create(request);
+    ScoreDTO result = scoreService.create(request, false);
 
     // Assert
     assertNotNull(result);
@@ -236,6 +477,74 @@ class ScoreServiceImplTest {
 
     verify(scoringRulesService, times(1)).computeScore(inputLetters);
     verify(scoreRepository, times(1)).save(any(Score.class));
+    verify(leaderboardCache, times(1)).add(savedScore);
+    verify(rankWrite).added(List.of(savedScore));
+    verify(rankWrite).close();
+  }
+
+  @Test
+  void create_WithValidate_ShouldRejectUnknownWord() {
+    // Arrange
+    ScoreCreateDTO request = ScoreCreateDTO.builder().letters("QZXJ").build();
+    when(dictionaryService.isValid("QZXJ")).thenReturn(false);
+
+    // Act & Assert
+    IllegalArgumentException exception =
+        assertThrows(IllegalArgumentException.class, () -> scoreService.create(request, true));
+    assertEquals("'QZXJ' is not a valid word.", exception.getMessage());
+    verify(scoreRepository, never()).save(any(Score.class));
+    verify(leaderboardCache, never()).add(any(Score.class));
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void createAll_ShouldInsertUppercasedScoresInOneBulkCall() {
+    // Arrange
+    List<String> letters = List.of("hello", "World");
+    ScoreBatchCreateDTO request = ScoreBatchCreateDTO.builder().letters(letters).build();
+    when(scoringRulesService.computeScores(letters)).thenReturn(new int[] {8, 9});
+    when(scoreRankTracker.beginWrite()).thenReturn(rankWrite);
+
+    // Act
+    List<ScoreDTO> result = scoreService.createAll(request);
+
+    // Assert
+    ArgumentCaptor<List<Score>> captor = ArgumentCaptor.forClass(List.class);
+    verify(scoreRepository, times(1)).insertAll(captor.capture());
+    verify(leaderboardCache, times(1)).addAll(captor.getValue());
+    verify(rankWrite).added(captor.getValue());
+    verify(rankWrite).close();
+    assertEquals(2, captor.getValue().size());
+    assertEquals("HELLO", captor.getValue().get(0).getLetters());
+    assertEquals(9, captor.getValue().get(1).getPoints());
+
+    assertEquals(2, result.size());
+    assertEquals("HELLO", result.get(0).getLetters());
+    assertEquals(8, result.get(0).getPoints());
+    assertEquals("WORLD", result.get(1).getLetters());
+  }
+
+  @Test
+  void createAll_WhenInsertFails_ShouldReloadCachesAndRethrow() {
+    // Arrange
+    List<String> letters = List.of("hello");
+    ScoreBatchCreateDTO request = ScoreBatchCreateDTO.builder().letters(letters).build();
+    when(scoringRulesService.computeScores(letters)).thenReturn(new int[] {8});
+    IllegalStateException failure = new IllegalStateException("connection lost");
+    doThrow(failure).when(scoreRepository).insertAll(anyList());
+    when(scoreRankTracker.beginWrite()).thenReturn(rankWrite);
+
+    // Act
+    IllegalStateException thrown =
+        assertThrows(IllegalStateException.class, () -> scoreService.createAll(request));
+
+    // Assert
+    assertEquals(failure, thrown);
+    verify(leaderboardCache).reload();
+    verify(scoreRankTracker).reload();
+    verify(leaderboardCache, never()).addAll(anyList());
+    verify(rankWrite, never()).added(anyList());
+    verify(rankWrite).close();
   }
 
   @Test
@@ -243,10 +552,111 @@ class ScoreServiceImplTest {
     // Arrange
     List<UUID> idsToDelete = Arrays.asList(UUID.randomUUID(), UUID.randomUUID());
 
+    when(scoreRepository.deleteAllByIds(idsToDelete)).thenReturn(List.of(8));
+    when(scoreRankTracker.beginWrite()).thenReturn(rankWrite);
+
     // Act
-    scoreService.deleteByIds(idsToDelete);
+    ScoreDeleteDTO result = scoreService.deleteByIds(idsToDelete);
 
     // Assert
-    verify(scoreRepository, times(1)).deleteAllById(idsToDelete);
+    assertEquals(1, result.getDeleted());
+    verify(leaderboardCache, times(1)).remove(idsToDelete);
+    verify(rankWrite, times(1)).removed(List.of(8));
+    verify(rankWrite).close();
+  }
+
+  @Test
+  void purge_ShouldDeleteMatchingScoresAndReloadLeaderboard() {
+    // Arrange
+    LocalDateTime createdBefore = LocalDateTime.of(2025, 1, 1, 0, 0);
+    when(scoreRepository.deleteAllMatching(createdBefore, 5)).thenReturn(42);
+
+    // Act
+    ScoreDeleteDTO result = scoreService.purge(createdBefore, 5);
+
+    // Assert
+    assertEquals(42, result.getDeleted());
+    verify(leaderboardCache, times(1)).reload();
+    verify(scoreRankTracker, times(1)).reload();
+  }
+
+  @Test
+  void purge_ShouldNotReloadLeaderboardWhenNothingWasDeleted() {
+    // Arrange
+    when(scoreRepository.deleteAllMatching(null, 5)).thenReturn(0);
+
+    // Act
+    ScoreDeleteDTO result = scoreService.purge(null, 5);
+
+    // Assert
+    assertEquals(0, result.getDeleted());
+    verify(leaderboardCache, never()).reload();
+  }
+
+  @Test
+  void purge_WithoutConditions_ShouldThrowException() {
+    // Act & Assert
+    IllegalArgumentException exception =
+        assertThrows(IllegalArgumentException.class, () -> scoreService.purge(null, null));
+    assertEquals("Specify createdBefore, pointsBelow or both.", exception.getMessage());
+    verify(scoreRepository, never()).deleteAllMatching(any(), any());
+  }
+
+  @Test
+  void findRank_ShouldRankFromTracker() {
+    // Arrange
+    when(scoreRankTracker.rank(8)).thenReturn(Optional.of(new ScoreRankTracker.Rank(1, 3)));
+
+    // Act
+    ScoreRankDTO result = scoreService.findRank(8);
+
+    // Assert
+    assertEquals(8, result.getPoints());
+    assertEquals(2, result.getRank());
+    assertEquals(3, result.getTotal());
+    assertEquals(66.67, result.getPercentile());
+    verify(scoreRepository, never()).count();
+  }
+
+  @Test
+  void findRank_ShouldCountInDatabaseWhenTrackerIsNotLoaded() {
+    // Arrange
+    when(scoreRankTracker.rank(8)).thenReturn(Optional.empty());
+    when(scoreRepository.countByPointsGreaterThan(8)).thenReturn(0L);
+    when(scoreRepository.count()).thenReturn(4L);
+
+    // Act
+    ScoreRankDTO result = scoreService.findRank(8);
+
+    // Assert
+    assertEquals(1, result.getRank());
+    assertEquals(100.0, result.getPercentile());
+  }
+
+  @Test
+  void findRank_ShouldRankSavedScore() {
+    // Arrange
+    UUID id = scoreHello.getId();
+    when(scoreRepository.findById(id)).thenReturn(Optional.of(scoreHello));
+    when(scoreRankTracker.rank(scoreHello.getPoints()))
+        .thenReturn(Optional.of(new ScoreRankTracker.Rank(0, 1)));
+
+    // Act
+    ScoreRankDTO result = scoreService.findRank(id);
+
+    // Assert
+    assertEquals(id, result.getId());
+    assertEquals(1, result.getRank());
+  }
+
+  @Test
+  void findRank_ShouldRejectUnknownScoreAndNegativePoints() {
+    // Arrange
+    UUID id = UUID.randomUUID();
+    when(scoreRepository.findById(id)).thenReturn(Optional.empty());
+
+    // Act & Assert
+    assertThrows(IllegalArgumentException.class, () -> scoreService.findRank(id));
+    assertThrows(IllegalArgumentException.class, () -> scoreService.findRank(-1));
   }
 }
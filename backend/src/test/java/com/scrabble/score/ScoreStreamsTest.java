@@ -0,0 +1,121 @@
+package com.scrabble.score;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ScoreStreamsTest {
+
+  private ScoringTable scoringTable;
+
+  @BeforeEach
+  void setUp() {
+    scoringTable = new ScoringRulesServiceImpl(new ScoreProperties()).getScoringTable();
+  }
+
+  @Test
+  void scoreLines_ShouldWriteOneScorePerNonBlankLine() throws IOException {
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+    long count = ScoreStreams.scoreLines(scoringTable, input("hello\r\n\nQUIZ\n  \nzzz"), output);
+
+    assertEquals(3, count);
+    assertEquals("hello\t8\nQUIZ\t22\nzzz\t30\n", output.toString(StandardCharsets.UTF_8));
+  }
+
+  @Test
+  void scoreLines_ShouldHandleInputLargerThanBuffers() throws IOException {
+    StringBuilder words = new StringBuilder();
+    StringBuilder expected = new StringBuilder();
+    for (int i = 0; i < 5000; i++) {
+      words.append("QUIZZIFIED\n");
+      expected.append("QUIZZIFIED\t41\n");
+    }
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+    long count = ScoreStreams.scoreLines(scoringTable, input(words.toString()), output);
+
+    assertEquals(5000, count);
+    assertEquals(expected.toString(), output.toString(StandardCharsets.UTF_8));
+  }
+
+  @Test
+  void scoreLines_ShouldEndWithErrorLineOnOverlongLine() throws IOException {
+    String input = "CAT\n" + "A".repeat(ScoreStreams.MAX_LINE_LENGTH + 1) + "\nQUIZ\n";
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+    long count = ScoreStreams.scoreLines(scoringTable, input(input), output);
+
+    assertEquals(1, count);
+    assertEquals(
+        "CAT\t5\n#error\tLine 2 exceeds 1024 bytes.\n", output.toString(StandardCharsets.UTF_8));
+  }
+
+  @Test
+  void scoreLines_ShouldKeepFlushedResultsWhenFailingMidStream() throws IOException {
+    StringBuilder words = new StringBuilder();
+    StringBuilder expected = new StringBuilder();
+    for (int i = 0; i < 2000; i++) {
+      words.append("QUIZZIFIED\n");
+      expected.append("QUIZZIFIED\t41\n");
+    }
+    words.append("B".repeat(ScoreStreams.MAX_LINE_LENGTH + 1));
+    expected.append("#error\tLine 2001 exceeds 1024 bytes.\n");
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+    long count = ScoreStreams.scoreLines(scoringTable, input(words.toString()), output);
+
+    assertEquals(2000, count);
+    assertEquals(expected.toString(), output.toString(StandardCharsets.UTF_8));
+  }
+
+  @Test
+  void scoreNdjson_ShouldWriteOneObjectPerInputValue() throws IOException {
+    String ndjson = "{\"letters\":\"hello\",\"id\":{\"x\":1}}\n\"QUIZ\"\n{\"other\":[1,2]}\n";
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+    long count = ScoreStreams.scoreNdjson(scoringTable, input(ndjson), output);
+
+    assertEquals(3, count);
+    assertEquals(
+        "{\"letters\":\"hello\",\"score\":8}\n"
+            + "{\"letters\":\"QUIZ\",\"score\":22}\n"
+            + "{\"letters\":null,\"score\":0}\n",
+        output.toString(StandardCharsets.UTF_8));
+  }
+
+  @Test
+  void scoreNdjson_ShouldEndWithErrorObjectOnMalformedInput() throws IOException {
+    String truncated = "{\"letters\":\"A\"}\n{\"letters\"";
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+    long count = ScoreStreams.scoreNdjson(scoringTable, input(truncated), output);
+
+    assertEquals(1, count);
+    assertEquals(
+        "{\"letters\":\"A\",\"score\":1}\n{\"error\":\"Malformed NDJSON on line 2.\"}\n",
+        output.toString(StandardCharsets.UTF_8));
+  }
+
+  @Test
+  void scoreNdjson_ShouldStopAtFirstValueThatIsNotAnObject() throws IOException {
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+    long count = ScoreStreams.scoreNdjson(scoringTable, input("\"CAT\"\n[1]\n\"QUIZ\""), output);
+
+    assertEquals(1, count);
+    assertEquals(
+        "{\"letters\":\"CAT\",\"score\":5}\n"
+            + "{\"error\":\"Expected a JSON object on line 2.\"}\n",
+        output.toString(StandardCharsets.UTF_8));
+  }
+
+  private static ByteArrayInputStream input(String content) {
+    return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+  }
+}
@@ -1,9 +1,20 @@
 package com.scrabble.score;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -14,7 +25,7 @@ class ScoringRulesServiceImplTest {
 
   @BeforeEach
   void setUp() {
-    scoringRulesService = new ScoringRulesServiceImpl();
+    scoringRulesService = new ScoringRulesServiceImpl(new ScoreProperties());
   }
 
   private static Stream<Arguments> scoreTestCases() {
@@ -45,4 +56,91 @@ class ScoringRulesServiceImplTest {
   void computeScore_WithVariousInputs_ShouldReturnCorrectScore(String input, int expectedScore) {
     assertEquals(expectedScore, scoringRulesService.computeScore(input));
   }
+
+  @Test
+  void computeScores_ShouldReturnScoresInInputOrder() {
+    List<String> letters = Arrays.asList("HELLO", "qz", null, "HELLO123!@#", "");
+
+    assertArrayEquals(new int[] {8, 20, 0, 8, 0}, scoringRulesService.computeScores(letters));
+  }
+
+  @Test
+  void getRuleSetNames_ShouldIncludeBundledEditions() {
+    assertEquals(List.of("de", "en", "es", "fr", "tr"), scoringRulesService.getRuleSetNames());
+  }
+
+  @Test
+  void computeScore_WithRuleSet_ShouldUseThatEdition() {
+    assertEquals(20, scoringRulesService.computeScore("KW", "fr"));
+    assertEquals(20, scoringRulesService.computeScore("KW", "FR"));
+    assertEquals(10, scoringRulesService.computeScore("KW", null));
+    assertEquals(15, scoringRulesService.computeScore("churro", "es"));
+    assertEquals(2, scoringRulesService.computeScore("\u0131", "tr"));
+    assertEquals(1, scoringRulesService.computeScore("i", "tr"));
+    assertArrayEquals(
+        new int[] {20, 1}, scoringRulesService.computeScores(List.of("KW", "e"), "fr"));
+  }
+
+  @Test
+  void computeScore_WithUnknownRuleSet_ShouldThrow() {
+    IllegalArgumentException exception =
+        assertThrows(
+            IllegalArgumentException.class, () -> scoringRulesService.computeScore("KW", "xx"));
+    assertEquals("Unknown rule set: xx.", exception.getMessage());
+  }
+
+  @Test
+  void reload_ShouldSwapChangedRuleSetsOnly(@TempDir Path directory) throws IOException {
+    Path rules = directory.resolve("rules.json");
+    Files.writeString(rules, "{\"house\": [{\"points\": 2, \"letters\": \"AEIOU\"}]}");
+    ScoreProperties scoreProperties = new ScoreProperties();
+    scoreProperties.setRulesPath(rules.toString());
+    ScoringRulesServiceImpl service = new ScoringRulesServiceImpl(scoreProperties);
+    ScoringTable english = service.getScoringTable();
+    ScoringTable house = service.getScoringTable("house");
+
+    Files.writeString(rules, "{\"house\": [{\"points\": 3, \"letters\": \"AEIOU\"}]}");
+
+    assertEquals(List.of("en", "house"), service.reload());
+    assertSame(english, service.getScoringTable());
+    assertNotSame(house, service.getScoringTable("house"));
+    assertEquals(6, service.computeScore("AXE", "house"));
+  }
+
+  @Test
+  void reload_WithInvalidRules_ShouldKeepPreviousRuleSets(@TempDir Path directory)
+      throws IOException {
+    Path rules = directory.resolve("rules.json");
+    Files.writeString(rules, "{\"house\": [{\"points\": 2, \"letters\": \"AEIOU\"}]}");
+    ScoreProperties scoreProperties = new ScoreProperties();
+    scoreProperties.setRulesPath(rules.toString());
+    ScoringRulesServiceImpl service = new ScoringRulesServiceImpl(scoreProperties);
+
+    Files.writeString(rules, "{\"house\": [{\"points\": -1, \"letters\": \"AEIOU\"}]}");
+
+    assertThrows(IllegalArgumentException.class, service::reload);
+    assertEquals(4, service.computeScore("AXE", "house"));
+  }
+
+  @Test
+  void reload_WithMissingOrMalformedFile_ShouldRejectAndKeepPreviousRuleSets(
+      @TempDir Path directory) throws IOException {
+    Path rules = directory.resolve("rules.json");
+    Files.writeString(rules, "{\"house\": [{\"points\": 2, \"letters\": \"AEIOU\"}]}");
+    ScoreProperties scoreProperties = new ScoreProperties();
+    scoreProperties.setRulesPath(rules.toString());
+    ScoringRulesServiceImpl service = new ScoringRulesServiceImpl(scoreProperties);
+
+    Files.writeString(rules, "{\"house\": [");
+    IllegalArgumentException malformed =
+        assertThrows(IllegalArgumentException.class, service::reload);
+    Files.delete(rules);
+    IllegalArgumentException missing =
+        assertThrows(IllegalArgumentException.class, service::reload);
+
+    assertEquals("Could not load scoring rules from " + rules + ".", missing.getMessage());
+    assertEquals("Could not load scoring rules from " + rules + ".", malformed.getMessage());
+    assertEquals(List.of("en", "house"), service.getRuleSetNames());
+    assertEquals(4, service.computeScore("AXE", "house"));
+  }
 }
@@ -0,0 +1,132 @@
+package com.scrabble.score;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.scrabble.score.dto.ScoringRuleDTO;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Locale;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class ScoringTableTest {
+
+  private ScoringTable scoringTable;
+
+  @BeforeEach
+  void setUp() {
+    scoringTable = new ScoringRulesServiceImpl(new ScoreProperties()).getScoringTable();
+  }
+
+  @ParameterizedTest(name = "all representations of {0} should score the same")
+  @ValueSource(strings = {"HELLO", "hello", "HeLLo", "QUIZ", "HELLO123!@#", "", "   "})
+  void score_ShouldMatchAcrossInputRepresentations(String letters) {
+    int expected = scoringTable.score(letters);
+
+    assertEquals(expected, scoringTable.score(new StringBuilder(letters)));
+    assertEquals(expected, scoringTable.score(letters.toCharArray(), 0, letters.length()));
+    assertEquals(expected, scoringTable.score(letters.getBytes(StandardCharsets.US_ASCII)));
+  }
+
+  @Test
+  void score_ShouldRespectOffsetAndLength() {
+    byte[] bytes = "xxQUIZxx".getBytes(StandardCharsets.US_ASCII);
+    char[] chars = "xxQUIZxx".toCharArray();
+
+    assertEquals(22, scoringTable.score(bytes, 2, 4));
+    assertEquals(22, scoringTable.score(chars, 2, 4));
+  }
+
+  @Test
+  void score_ShouldIgnoreNonAsciiInput() {
+    assertEquals(7, scoringTable.score("H\u00c9LLO\u00e9"));
+    assertEquals(7, scoringTable.score("H\u00c9LLO".getBytes(StandardCharsets.UTF_8)));
+  }
+
+  @Test
+  void score_ShouldReturnZeroForNull() {
+    assertEquals(0, scoringTable.score((CharSequence) null));
+    assertEquals(0, scoringTable.score((byte[]) null));
+  }
+
+  @ParameterizedTest(name = "{0} should score {1} with Spanish tiles")
+  @CsvSource({
+    "CHURRO, 15",
+    "chUrro, 15",
+    "CALLE, 13",
+    "NI\u00d1O, 11",
+    "ni\u00f1o, 11",
+    "NIN\u0303O, 11",
+    "CX, 11",
+    "H3LL0, 12"
+  })
+  void score_WithMultiLetterTiles_ShouldMatchLongestTile(String letters, int expected) {
+    ScoringTable spanish =
+        ScoringTable.compile(
+            List.of(
+                ScoringRuleDTO.builder().points(1).letters("AEOISNLRUT").build(),
+                ScoringRuleDTO.builder().points(3).letters("C").build(),
+                ScoringRuleDTO.builder().points(4).letters("H").build(),
+                ScoringRuleDTO.builder().points(5).tiles(List.of("CH")).build(),
+                ScoringRuleDTO.builder()
+                    .points(8)
+                    .letters("X\u00d1")
+                    .tiles(List.of("LL", "RR"))
+                    .build()));
+
+    assertEquals(expected, spanish.score(letters));
+    assertEquals(expected, spanish.score(letters.toCharArray(), 0, letters.length()));
+    assertEquals(expected, spanish.score(letters.getBytes(StandardCharsets.UTF_8)));
+  }
+
+  @Test
+  void score_WithTurkishLocale_ShouldFoldDottedAndDotlessI() {
+    ScoringTable turkish =
+        ScoringTable.compile(
+            List.of(
+                ScoringRuleDTO.builder().points(1).letters("\u0130K").build(),
+                ScoringRuleDTO.builder().points(2).letters("IS").build()),
+            Locale.forLanguageTag("tr"));
+
+    assertEquals(1, turkish.score("i"));
+    assertEquals(1, turkish.score("\u0130"));
+    assertEquals(2, turkish.score("I"));
+    assertEquals(2, turkish.score("\u0131"));
+    assertEquals(7, turkish.score("k\u0131s\u0131".getBytes(StandardCharsets.UTF_8)));
+  }
+
+  @Test
+  void compile_ShouldRejectBlankTiles() {
+    List<ScoringRuleDTO> rules =
+        List.of(ScoringRuleDTO.builder().points(8).tiles(List.of(" ")).build());
+
+    assertThrows(IllegalArgumentException.class, () -> ScoringTable.compile(rules));
+  }
+
+  @Test
+  void changedLetters_ShouldMarkLettersWithDifferentPoints() {
+    ScoringTable changed =
+        ScoringTable.compile(
+            List.of(
+                ScoringRuleDTO.builder().points(1).letters("AEIOULNSTR").build(),
+                ScoringRuleDTO.builder().points(2).letters("DG").build(),
+                ScoringRuleDTO.builder().points(3).letters("BCMP").build(),
+                ScoringRuleDTO.builder().points(4).letters("FHVWY").build(),
+                ScoringRuleDTO.builder().points(6).letters("K").build(),
+                ScoringRuleDTO.builder().points(8).letters("JX").build(),
+                ScoringRuleDTO.builder().points(10).letters("Q").build(),
+                ScoringRuleDTO.builder().points(1).letters("Z").build()));
+
+    assertEquals(1 << ('Z' - 'A'), scoringTable.changedLetters(changed));
+    assertEquals(0, scoringTable.changedLetters(scoringTable));
+    assertEquals(
+        (1 << 26) - 1,
+        scoringTable.changedLetters(
+            ScoringTable.compile(
+                List.of(ScoringRuleDTO.builder().points(5).tiles(List.of("CH")).build()))));
+  }
+}
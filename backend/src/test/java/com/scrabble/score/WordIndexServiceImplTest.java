@@ -0,0 +1,107 @@
+package com.scrabble.score;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+import com.scrabble.dictionary.DictionaryService;
+import com.scrabble.dictionary.Lexicon;
+import com.scrabble.score.dto.ScoringRuleDTO;
+import com.scrabble.score.dto.WordScoreDTO;
+import com.scrabble.score.dto.WordScorePageDTO;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class WordIndexServiceImplTest {
+
+  private static final Lexicon LEXICON = Lexicon.of(List.of("CAT", "QUIZ", "ZA", "AT", "JAZZ"));
+
+  @Mock private DictionaryService dictionaryService;
+
+  @Mock private ScoringRulesService scoringRulesService;
+
+  private WordIndexService wordIndexService;
+
+  @BeforeEach
+  void setUp() {
+    wordIndexService = new WordIndexServiceImpl(dictionaryService, scoringRulesService);
+  }
+
+  @Test
+  void findWords_ShouldReturnPageAndTotal() {
+    // Arrange
+    stubRules(new ScoringRulesServiceImpl(new ScoreProperties()).getScoringTable());
+
+    // Act
+    WordScorePageDTO result = wordIndexService.findWords(5, null, null, 4, 0, 2);
+
+    // Assert
+    assertEquals(4, result.getTotal());
+    assertEquals(List.of("JAZZ", "QUIZ"), words(result));
+    assertEquals(29, result.getItems().get(0).getScore());
+  }
+
+  @Test
+  void findWords_ShouldReturnEmptyPageBeyondLastMatch() {
+    // Arrange
+    stubRules(new ScoringRulesServiceImpl(new ScoreProperties()).getScoringTable());
+
+    // Act
+    WordScorePageDTO result = wordIndexService.findWords(null, null, null, null, 3, 2);
+
+    // Assert
+    assertEquals(5, result.getTotal());
+    assertTrue(result.getItems().isEmpty());
+  }
+
+  @Test
+  void findWords_ShouldFollowRuleChanges() {
+    // Arrange
+    stubRules(new ScoringRulesServiceImpl(new ScoreProperties()).getScoringTable());
+    wordIndexService.findWords(null, null, null, null, 0, 10);
+    stubRules(
+        ScoringTable.compile(List.of(ScoringRuleDTO.builder().points(1).letters("ACTZ").build())));
+
+    // Act
+    WordScorePageDTO result = wordIndexService.findWords(3, null, null, null, 0, 10);
+
+    // Assert
+    assertEquals(List.of("CAT", "JAZZ"), words(result));
+    assertEquals(3, result.getItems().get(0).getScore());
+  }
+
+  @Test
+  void findWords_ShouldRejectInvertedRanges() {
+    // Act & Assert
+    IllegalArgumentException exception =
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> wordIndexService.findWords(20, 10, null, null, 0, 10));
+    assertEquals("Maximum score must not be below the minimum score.", exception.getMessage());
+  }
+
+  @Test
+  void findWords_ShouldRejectPageSizeOutOfRange() {
+    // Act & Assert
+    IllegalArgumentException exception =
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> wordIndexService.findWords(null, null, null, null, 0, 101));
+    assertEquals("Page size must be between 1 and 100.", exception.getMessage());
+  }
+
+  private void stubRules(ScoringTable scoringTable) {
+    when(dictionaryService.getLexicon()).thenReturn(LEXICON);
+    when(scoringRulesService.getScoringTable()).thenReturn(scoringTable);
+  }
+
+  private static List<String> words(WordScorePageDTO page) {
+    return page.getItems().stream().map(WordScoreDTO::getWord).toList();
+  }
+}
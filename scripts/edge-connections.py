@@ -0,0 +1,142 @@
+#!/usr/bin/env python3
+"""Holds many idle keep-alive connections open against the backend and measures it meanwhile.
+
+Used to check the edge profile: start the backend with SPRING_PROFILES_ACTIVE=edge, raise the
+open file limit on both sides (ulimit -n), then run for example
+
+    python3 scripts/edge-connections.py --connections 20000 --hold 60
+
+Each connection sends one request and then stays open and idle. While they are held, a fresh
+connection scores a word every second, and the latency of that request is reported. At the end,
+every held connection sends a second request to show that the server kept it. Only the Python
+standard library is needed.
+"""
+
+import argparse
+import asyncio
+import resource
+import statistics
+import time
+from urllib.parse import urlsplit
+
+HOLD_PATH = "/actuator/health"
+PROBE_PATH = "/api/v1/scores/compute"
+PROBE_BODY = b'{"letters":"QUIZ"}'
+
+
+def request(host, method, path, body=b""):
+    head = (
+        f"{method} {path} HTTP/1.1\r\nHost: {host}\r\nConnection: keep-alive\r\n"
+        f"Content-Type: application/json\r\nContent-Length: {len(body)}\r\n\r\n"
+    )
+    return head.encode("ascii") + body
+
+
+async def read_response(reader):
+    """Reads one HTTP/1.1 response and returns its status code."""
+    status = int((await reader.readline()).split()[1])
+    length, chunked = 0, False
+    while (line := await reader.readline()) not in (b"\r\n", b""):
+        name, _, value = line.decode("latin-1").partition(":")
+        if name.lower() == "content-length":
+            length = int(value)
+        elif name.lower() == "transfer-encoding" and "chunked" in value.lower():
+            chunked = True
+    if not chunked:
+        await reader.readexactly(length)
+        return status
+    while (size := int((await reader.readline()).split(b";")[0], 16)) > 0:
+        await reader.readexactly(size + 2)
+    await reader.readline()
+    return status
+
+
+async def open_held(host, port, limit, held, failures):
+    async with limit:
+        try:
+            reader, writer = await asyncio.open_connection(host, port)
+            writer.write(request(host, "GET", HOLD_PATH))
+            await writer.drain()
+            if await read_response(reader) == 200:
+                held.append((reader, writer))
+                return
+            writer.close()
+        except (OSError, ValueError, IndexError, asyncio.IncompleteReadError):
+            pass
+        failures.append(1)
+
+
+async def probe(host, port):
+    start = time.perf_counter()
+    reader, writer = await asyncio.open_connection(host, port)
+    try:
+        writer.write(request(host, "POST", PROBE_PATH, PROBE_BODY))
+        await writer.drain()
+        status = await read_response(reader)
+        return status, (time.perf_counter() - start) * 1000
+    finally:
+        writer.close()
+
+
+async def reuse(host, connection):
+    reader, writer = connection
+    try:
+        writer.write(request(host, "GET", HOLD_PATH))
+        await writer.drain()
+        return await read_response(reader) == 200
+    except (OSError, ValueError, IndexError, asyncio.IncompleteReadError):
+        return False
+    finally:
+        writer.close()
+
+
+async def main(args):
+    url = urlsplit(args.url)
+    host, port = url.hostname, url.port or 80
+    held, failures = [], []
+
+    started = time.perf_counter()
+    limit = asyncio.Semaphore(args.concurrency)
+    await asyncio.gather(
+        *(open_held(host, port, limit, held, failures) for _ in range(args.connections))
+    )
+    print(
+        f"opened {len(held)} of {args.connections} connections in "
+        f"{time.perf_counter() - started:.1f}s ({len(failures)} failed)"
+    )
+
+    latencies, probe_errors = [], 0
+    deadline = time.perf_counter() + args.hold
+    while time.perf_counter() < deadline:
+        try:
+            status, millis = await probe(host, port)
+            if status == 200:
+                latencies.append(millis)
+            else:
+                probe_errors += 1
+        except (OSError, ValueError, IndexError, asyncio.IncompleteReadError):
+            probe_errors += 1
+        await asyncio.sleep(1)
+    if latencies:
+        latencies.sort()
+        p99 = latencies[min(len(latencies) - 1, int(len(latencies) * 0.99))]
+        print(
+            f"probe while holding: {len(latencies)} ok, {probe_errors} failed, "
+            f"p50 {statistics.median(latencies):.1f} ms, p99 {p99:.1f} ms"
+        )
+    else:
+        print(f"probe while holding: no successful requests, {probe_errors} failed")
+
+    alive = await asyncio.gather(*(reuse(host, connection) for connection in held))
+    print(f"still open after {args.hold}s idle: {sum(alive)} of {len(held)}")
+
+
+if __name__ == "__main__":
+    parser = argparse.ArgumentParser(description=__doc__.splitlines()[0])
+    parser.add_argument("--url", default="http://localhost:8080")
+    parser.add_argument("--connections", type=int, default=20000)
+    parser.add_argument("--hold", type=int, default=30, help="seconds to hold them idle")
+    parser.add_argument("--concurrency", type=int, default=500, help="connects in flight")
+    soft, hard = resource.getrlimit(resource.RLIMIT_NOFILE)
+    resource.setrlimit(resource.RLIMIT_NOFILE, (hard, hard))
+    asyncio.run(main(parser.parse_args()))